@@ -0,0 +1,388 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga para la API de Inventario Archivístico.
+ * Programa de un solo archivo (Java 21): se ejecuta con "java LoadTest.java".
+ *
+ * MODELO DE CARGA (lazo abierto):
+ * - Las peticiones se lanzan a una tasa fija (--tasa por segundo), sin
+ *   esperar a que terminen las anteriores.
+ * - La latencia se mide desde el instante en que la petición DEBÍA salir,
+ *   de modo que las colas del servidor no se ocultan (coordinated omission).
+ * - Los rechazos del control de admisión (429/503) y los errores de E/S se
+ *   cuentan aparte y NO entran en los percentiles: son respuestas rápidas
+ *   que harían parecer más veloz una corrida cuanto más se rechaza.
+ *
+ * Uso (ejecutar.sh arranca la base y la API, espera readiness y siembra antes):
+ *   java LoadTest.java --tasa=200 --duracion=120 --filas=2000000 --salida=resultados/base.csv
+ *   java LoadTest.java comparar resultados/base.csv resultados/nuevo.csv
+ */
+public class LoadTest {
+
+    /** Año reservado para los expedientes creados durante la prueba. */
+    private static final int ANIO_PRUEBA = 2099;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("comparar")) {
+            comparar(Path.of(args[1]), Path.of(args[2]));
+            return;
+        }
+
+        Map<String, String> opciones = leerOpciones(args);
+        String baseUrl = opciones.getOrDefault("url", "http://localhost:8080/api/v1/expedientes");
+        int tasa = Integer.parseInt(opciones.getOrDefault("tasa", "200"));
+        int duracion = Integer.parseInt(opciones.getOrDefault("duracion", "60"));
+        int calentamiento = Integer.parseInt(opciones.getOrDefault("calentamiento", "10"));
+        long filas = Long.parseLong(opciones.getOrDefault("filas", "2000000"));
+        Path salida = Path.of(opciones.getOrDefault("salida", "resultados/corrida.csv"));
+        // listarTodos no va en la mezcla por defecto: el listado no está paginado
+        // y con millones de filas cada petición domina la corrida (ver README)
+        Map<String, Integer> mezcla = leerMezcla(opciones.getOrDefault("mezcla",
+                "buscarPorId:70,registrar:15,actualizar:10,eliminar:5"));
+
+        new LoadTest(baseUrl, filas).ejecutar(tasa, duracion, calentamiento, mezcla, salida);
+    }
+
+    private final String baseUrl;
+    private final long filas;
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /** Contador para N° únicos de los expedientes registrados en la prueba. */
+    private final AtomicLong siguienteRegistro = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    private LoadTest(String baseUrl, long filas) {
+        this.baseUrl = baseUrl;
+        this.filas = filas;
+    }
+
+    // ==========================================
+    // EJECUCIÓN
+    // ==========================================
+
+    private void ejecutar(int tasa, int duracion, int calentamiento,
+            Map<String, Integer> mezcla, Path salida) throws Exception {
+
+        String[] operaciones = expandirMezcla(mezcla);
+        Map<String, Registro> registros = new LinkedHashMap<>();
+        for (String operacion : mezcla.keySet()) {
+            registros.put(operacion, new Registro((long) tasa * duracion));
+        }
+
+        long intervaloNanos = TimeUnit.SECONDS.toNanos(1) / tasa;
+        long totalPeticiones = (long) tasa * (calentamiento + duracion);
+        long inicio = System.nanoTime();
+        long inicioMedicion = inicio + TimeUnit.SECONDS.toNanos(calentamiento);
+
+        System.out.printf(Locale.ROOT, "Carga: %d pet/s, %d s de calentamiento + %d s medidos%n",
+                tasa, calentamiento, duracion);
+
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < totalPeticiones; i++) {
+                long programado = inicio + i * intervaloNanos;
+                long espera = programado - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+
+                String operacion = operaciones[ThreadLocalRandom.current().nextInt(operaciones.length)];
+                Registro registro = programado >= inicioMedicion ? registros.get(operacion) : null;
+                ejecutor.submit(() -> enviar(operacion, programado, registro));
+            }
+        }
+
+        long finMedicion = inicioMedicion + TimeUnit.SECONDS.toNanos(duracion);
+        escribirReporte(registros, duracion, salida);
+        System.out.printf(Locale.ROOT, "Reporte escrito en %s (drenaje: %.1f s)%n",
+                salida, (System.nanoTime() - finMedicion) / 1e9);
+    }
+
+    private void enviar(String operacion, long programado, Registro registro) {
+        Resultado resultado;
+        try {
+            int status = http.send(construir(operacion), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+            resultado = switch (status) {
+                case 429 -> Resultado.RECHAZO_429;
+                case 503 -> Resultado.RECHAZO_503;
+                // Un 404 es la respuesta correcta al sondear N° inexistentes
+                default -> status < 400 || (operacion.equals("buscarInexistente") && status == 404)
+                        ? Resultado.OK
+                        : Resultado.ERROR;
+            };
+        } catch (IOException e) {
+            resultado = Resultado.ERROR_IO;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultado = Resultado.ERROR_IO;
+        }
+
+        if (registro != null) {
+            registro.agregar(System.nanoTime() - programado, resultado);
+        }
+    }
+
+    private HttpRequest construir(String operacion) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        return switch (operacion) {
+            case "buscarPorId" -> builder.uri(URI.create(baseUrl + "/" + idExistente())).GET().build();
+            case "buscarInexistente" -> builder.uri(URI.create(baseUrl + "/" + String.format(Locale.ROOT,
+                    "%d-%d", ThreadLocalRandom.current().nextInt(1, 1_000_000), ANIO_PRUEBA - 1))).GET().build();
+            case "listarTodos" -> builder
+                    .uri(URI.create(baseUrl + "?fields=fecha_registro,tipo_documento,nombre_solicitante"))
+                    .GET().build();
+            case "registrar" -> builder.uri(URI.create(baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(cuerpo(String.format(Locale.ROOT,
+                            "%d-%d", siguienteRegistro.incrementAndGet(), ANIO_PRUEBA))))
+                    .build();
+            case "actualizar" -> {
+                String id = idExistente();
+                yield builder.uri(URI.create(baseUrl + "/" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(cuerpo(id)))
+                        .build();
+            }
+            case "eliminar" -> builder.uri(URI.create(baseUrl + "/" + idExistente())).DELETE().build();
+            default -> throw new IllegalArgumentException("Operación desconocida: " + operacion);
+        };
+    }
+
+    /**
+     * N° de un expediente sembrado por seed.sql (misma fórmula).
+     * La distribución está sesgada: pocos expedientes concentran la mayoría
+     * de las consultas, como ocurre en la atención real.
+     */
+    private String idExistente() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        long g = (long) (filas * r * r);
+        return String.format(Locale.ROOT, "%03d-%d", g / 26 + 1, 2000 + g % 26);
+    }
+
+    private static String cuerpo(String idExpediente) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return """
+                {"id_expediente":"%s","fecha_registro":"%s","tipo_documento":"Oficio",\
+                "num_documento":"OF-%03d-%d","nombre_solicitante":"Solicitante de prueba",\
+                "dni_solicitante":"%08d","asunto":"Solicitud generada por prueba de carga",\
+                "dirigido_a":"Dirección de Archivo Central","folios":%d,\
+                "archivado_con":"Estante %c-%02d, Caja %02d"}"""
+                .formatted(idExpediente,
+                        LocalDate.now(),
+                        random.nextInt(1, 1000), ANIO_PRUEBA,
+                        random.nextInt(10_000_000, 100_000_000),
+                        random.nextInt(1, 120),
+                        (char) ('A' + random.nextInt(8)), random.nextInt(1, 21), random.nextInt(1, 41));
+    }
+
+    // ==========================================
+    // REPORTE
+    // ==========================================
+
+    private static void escribirReporte(Map<String, Registro> registros, int duracion, Path salida)
+            throws IOException {
+
+        if (salida.getParent() != null) {
+            Files.createDirectories(salida.getParent());
+        }
+
+        // pet_s y percentiles: solo peticiones atendidas (OK o error de la aplicación)
+        String formato = "%-12s %10s %8s %8s %8s %8s %10s %10s %10s %10s%n";
+        System.out.printf(Locale.ROOT, formato, "operacion", "peticiones", "errores",
+                "429", "503", "io", "pet/s", "p50_ms", "p99_ms", "p999_ms");
+
+        long rechazadas = 0;
+        long total = 0;
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(salida))) {
+            csv.println("operacion,peticiones,errores,rechazos_429,rechazos_503,errores_io,"
+                    + "pet_s,p50_ms,p99_ms,p999_ms");
+            for (Map.Entry<String, Registro> entrada : registros.entrySet()) {
+                Registro r = entrada.getValue();
+                long[] latencias = r.ordenadas();
+                String fila = String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                        entrada.getKey(), r.total(), r.conteo(Resultado.ERROR),
+                        r.conteo(Resultado.RECHAZO_429), r.conteo(Resultado.RECHAZO_503),
+                        r.conteo(Resultado.ERROR_IO),
+                        latencias.length / (double) duracion,
+                        percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 0.999));
+                csv.println(fila);
+                System.out.printf(Locale.ROOT, formato, (Object[]) fila.split(","));
+                total += r.total();
+                rechazadas += r.total() - latencias.length;
+            }
+        }
+
+        if (rechazadas > 0) {
+            System.out.printf(Locale.ROOT,
+                    "AVISO: %d de %d peticiones (%.1f%%) rechazadas (429/503) o sin respuesta;"
+                            + " la corrida no mide la tasa pedida%n",
+                    rechazadas, total, rechazadas * 100.0 / total);
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+
+    /**
+     * Compara dos reportes CSV y muestra la variación porcentual
+     * de throughput y percentiles por operación.
+     */
+    private static void comparar(Path base, Path nuevo) throws IOException {
+        Map<String, Map<String, String>> filasBase = leerCsv(base);
+        Map<String, Map<String, String>> filasNuevo = leerCsv(nuevo);
+        String[] columnas = {"pet_s", "p50_ms", "p99_ms", "p999_ms"};
+
+        System.out.printf(Locale.ROOT, "%-12s %-8s %10s %10s %9s%n", "operacion", "metrica", "base", "nuevo", "cambio");
+        for (Map.Entry<String, Map<String, String>> entrada : filasBase.entrySet()) {
+            Map<String, String> otra = filasNuevo.get(entrada.getKey());
+            if (otra == null) {
+                continue;
+            }
+            for (String columna : columnas) {
+                double antes = Double.parseDouble(entrada.getValue().get(columna));
+                double despues = Double.parseDouble(otra.get(columna));
+                double cambio = antes == 0 ? 0 : (despues - antes) / antes * 100;
+                System.out.printf(Locale.ROOT, "%-12s %-8s %10.2f %10.2f %+8.1f%%%n",
+                        entrada.getKey(), columna, antes, despues, cambio);
+            }
+        }
+    }
+
+    /** Filas del reporte por operación, con los valores indexados por columna. */
+    private static Map<String, Map<String, String>> leerCsv(Path archivo) throws IOException {
+        Map<String, Map<String, String>> filas = new LinkedHashMap<>();
+        List<String> lineas = Files.readAllLines(archivo);
+        String[] encabezado = lineas.get(0).split(",");
+        for (String linea : lineas.subList(1, lineas.size())) {
+            String[] campos = linea.split(",");
+            Map<String, String> fila = new HashMap<>();
+            for (int i = 0; i < encabezado.length; i++) {
+                fila.put(encabezado[i], campos[i]);
+            }
+            filas.put(campos[0], fila);
+        }
+        return filas;
+    }
+
+    // ==========================================
+    // OPCIONES
+    // ==========================================
+
+    private static Map<String, String> leerOpciones(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Opción no válida: " + arg);
+            }
+            int igual = arg.indexOf('=');
+            opciones.put(arg.substring(2, igual), arg.substring(igual + 1));
+        }
+        return opciones;
+    }
+
+    private static Map<String, Integer> leerMezcla(String mezcla) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : mezcla.split(",")) {
+            String[] clavePeso = parte.split(":");
+            pesos.put(clavePeso[0].trim(), Integer.parseInt(clavePeso[1].trim()));
+        }
+        return pesos;
+    }
+
+    /** Tabla de operaciones donde cada una aparece tantas veces como su peso. */
+    private static String[] expandirMezcla(Map<String, Integer> mezcla) {
+        List<String> tabla = new ArrayList<>();
+        mezcla.forEach((operacion, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                tabla.add(operacion);
+            }
+        });
+        return tabla.toArray(String[]::new);
+    }
+
+    /**
+     * Resultado de una petición. Solo las atendidas por la aplicación
+     * (OK o ERROR) aportan latencia a los percentiles.
+     */
+    private enum Resultado {
+        OK(true),
+        ERROR(true),
+        RECHAZO_429(false),
+        RECHAZO_503(false),
+        ERROR_IO(false);
+
+        private final boolean atendida;
+
+        Resultado(boolean atendida) {
+            this.atendida = atendida;
+        }
+    }
+
+    /**
+     * Latencias (ns) de una operación y conteo por resultado. Arreglo
+     * prealocado para no generar basura en el generador mientras mide.
+     */
+    private static final class Registro {
+
+        private long[] latencias;
+        private int cantidad;
+        private final long[] conteos = new long[Resultado.values().length];
+
+        private Registro(long capacidadInicial) {
+            this.latencias = new long[(int) Math.min(capacidadInicial, 1_000_000L)];
+        }
+
+        private synchronized void agregar(long latenciaNanos, Resultado resultado) {
+            conteos[resultado.ordinal()]++;
+            if (!resultado.atendida) {
+                return;
+            }
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, Math.max(16, cantidad * 2));
+            }
+            latencias[cantidad++] = latenciaNanos;
+        }
+
+        private synchronized long conteo(Resultado resultado) {
+            return conteos[resultado.ordinal()];
+        }
+
+        private synchronized long total() {
+            return Arrays.stream(conteos).sum();
+        }
+
+        private synchronized long[] ordenadas() {
+            long[] copia = Arrays.copyOf(latencias, cantidad);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+}
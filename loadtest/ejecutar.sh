@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# =====================================================
+# Corrida completa de la prueba de carga:
+#   1. Levanta PostgreSQL (docker compose) y espera a que acepte conexiones.
+#   2. Arranca la API con el perfil prod (Flyway crea el esquema).
+#   3. Espera a /actuator/health/readiness (incluye el calentamiento de caché).
+#   4. Siembra los datos si la tabla está vacía.
+#   5. Ejecuta LoadTest.java con los argumentos recibidos.
+# La API se detiene al terminar, aunque la corrida falle.
+#
+# Uso (desde la raíz del repositorio; en Windows con Git Bash o WSL):
+#   loadtest/ejecutar.sh --tasa=300 --duracion=120 --salida=resultados/base.csv
+#
+# Variables opcionales:
+#   FILAS=2000000      filas sintéticas (se pasa también como --filas)
+#   JAR=target/...jar  artefacto a probar (por defecto se empaqueta con mvn)
+#   PERFILES=prod      perfiles de Spring (ej. prod,jdbc)
+#   ESPERA_MAX=180     segundos máximos de espera de readiness
+#   TASA_CLIENTE=100000  tasa y ráfaga por cliente de la API: todo el generador
+#                      comparte una IP (una cubeta), así que debe superar --tasa
+#
+# Cada corrida arranca con la caché fría: la instantánea de arranque en caliente
+# se escribe en loadtest/resultados y se borra antes de iniciar la API.
+# =====================================================
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+COMPOSE="$RAIZ/loadtest/docker-compose.yml"
+FILAS="${FILAS:-2000000}"
+JAR="${JAR:-$RAIZ/target/inventario-api-1.0.0.jar}"
+PERFILES="${PERFILES:-prod}"
+ESPERA_MAX="${ESPERA_MAX:-180}"
+TASA_CLIENTE="${TASA_CLIENTE:-100000}"
+READINESS="http://localhost:8080/actuator/health/readiness"
+LOG_API="$RAIZ/loadtest/resultados/api.log"
+SNAPSHOT="$RAIZ/loadtest/resultados/expedientes-calientes.bin"
+
+mkdir -p "$RAIZ/loadtest/resultados"
+rm -f "$SNAPSHOT"
+
+echo "==> Base de datos"
+docker compose -f "$COMPOSE" up -d --wait
+
+if [[ ! -f "$JAR" ]]; then
+    echo "==> Empaquetando $JAR"
+    (cd "$RAIZ" && mvn -B -q -DskipTests package)
+fi
+
+echo "==> API (perfiles: $PERFILES, log: $LOG_API)"
+java -Dspring.profiles.active="$PERFILES" -jar "$JAR" \
+    --inventario.admision.tasa-por-cliente="$TASA_CLIENTE" \
+    --inventario.admision.rafaga-por-cliente="$TASA_CLIENTE" \
+    --inventario.cache.snapshot.archivo="$SNAPSHOT" \
+    > "$LOG_API" 2>&1 &
+PID_API=$!
+trap 'kill "$PID_API" 2>/dev/null || true; wait "$PID_API" 2>/dev/null || true' EXIT
+
+echo -n "==> Esperando readiness"
+for ((i = 0; i < ESPERA_MAX; i++)); do
+    if ! kill -0 "$PID_API" 2>/dev/null; then
+        echo; echo "La API terminó durante el arranque. Últimas líneas de $LOG_API:" >&2
+        tail -n 40 "$LOG_API" >&2
+        exit 1
+    fi
+    if curl -sf "$READINESS" > /dev/null; then
+        echo " listo (${i} s)"
+        break
+    fi
+    echo -n "."
+    sleep 1
+done
+if ! curl -sf "$READINESS" > /dev/null; then
+    echo; echo "La API no estuvo lista en ${ESPERA_MAX} s" >&2
+    exit 1
+fi
+
+EXISTENTES=$(docker exec inventario-loadtest-db psql -U postgres -d inventario_archivo -tAc \
+    "SELECT COUNT(*) FROM expedientes")
+if [[ "$EXISTENTES" == "0" ]]; then
+    echo "==> Sembrando $FILAS expedientes"
+    docker exec -i inventario-loadtest-db psql -U postgres -d inventario_archivo -q \
+        -v ON_ERROR_STOP=1 -v filas="$FILAS" -f /seed/seed.sql
+else
+    echo "==> La base ya tiene $EXISTENTES expedientes (no se siembra)"
+fi
+
+echo "==> Carga"
+cd "$RAIZ/loadtest"
+java LoadTest.java --filas="$FILAS" "$@"
@@ -0,0 +1,74 @@
+-- =====================================================
+-- SCRIPT SQL: Datos sintéticos para pruebas de carga
+-- Base de datos: PostgreSQL
+--
+-- Uso (el esquema debe existir, ver README de loadtest):
+--   docker exec -i inventario-loadtest-db psql -U postgres -d inventario_archivo \
+--       -v filas=2000000 -f /seed/seed.sql
+--
+-- La semilla de random() es fija: dos corridas generan los mismos datos.
+-- El N° de Expediente de la fila g es:
+--   lpad(g / 26 + 1, 3, '0') || '-' || (2000 + g % 26)
+-- (LoadTest.java usa la misma fórmula para elegir N° existentes).
+-- =====================================================
+
+\if :{?filas}
+\else
+    \set filas 2000000
+\endif
+
+SELECT setseed(0.42);
+
+INSERT INTO expedientes (id_expediente, fecha_registro, tipo_documento, num_documento,
+                         nombre_solicitante, dni_solicitante, asunto, dirigido_a, folios,
+                         archivado_con, estante, caja, observaciones, activo)
+SELECT
+    lpad((g / 26 + 1)::text, 3, '0') || '-' || anio,
+    fecha,
+    tipo,
+    upper(left(tipo, 3)) || '-' || lpad((g % 997 + 1)::text, 3, '0') || '-' || anio,
+    (ARRAY['Juan', 'María', 'José', 'Rosa', 'Carlos', 'Ana', 'Luis', 'Carmen', 'Jorge', 'Elena'])[1 + floor(random() * 10)::int]
+        || ' ' || (ARRAY['Quispe', 'Flores', 'Sánchez', 'Rodríguez', 'García', 'Huamán', 'Mamani', 'Torres', 'Díaz', 'Vargas'])[1 + floor(random() * 10)::int]
+        || ' ' || (ARRAY['Pérez', 'Gómez', 'Ríos', 'Castillo', 'Mendoza', 'Salazar', 'Chávez', 'Ramos', 'Cruz', 'Rojas'])[1 + floor(random() * 10)::int],
+    -- DNI: 8 dígitos; power() sesga hacia un grupo de solicitantes frecuentes
+    lpad((10000000 + floor(power(random(), 3) * 79999999))::bigint::text, 8, '0'),
+    -- Asunto: 1 a 8 frases, la mayoría cortas y algunas muy largas
+    (SELECT string_agg((ARRAY[
+            'Solicitud de acceso a documentos históricos',
+            'Pedido de copias certificadas de resoluciones',
+            'Transferencia de expedientes del área de contabilidad',
+            'Donación de documentos familiares al archivo',
+            'Informe de inventario de documentos clasificados',
+            'Consulta de partidas y registros antiguos',
+            'Reconstrucción de expediente extraviado',
+            'Verificación de firmas y sellos en documentación'])[1 + floor(random() * 8)::int]
+            || ' (' || anio || ')', '. ')
+     FROM generate_series(1, 1 + floor(power(random(), 2) * 8)::int)
+     -- referencia a datos.g: fuerza a evaluar la subconsulta en cada fila
+     WHERE datos.g >= 0),
+    (ARRAY['Dirección de Archivo Central', 'Secretaría General', 'Jefatura de Archivo',
+           'Unidad de Gestión Documental', 'Comité de Evaluación Documental'])[1 + floor(random() * 5)::int],
+    -- Folios: la mayoría pocos, algunos expedientes voluminosos
+    1 + floor(power(random(), 3) * 300)::int,
+    'Estante ' || estante || ', Caja ' || lpad(caja::text, 2, '0'),
+    estante,
+    caja,
+    CASE WHEN random() < 0.4 THEN 'Observación generada para pruebas de carga' END,
+    random() > 0.02
+FROM (
+    SELECT g,
+           2000 + g % 26 AS anio,
+           -- Fecha dentro del año del N°, trasladando sábados y domingos al lunes
+           (SELECT d + CASE extract(isodow FROM d) WHEN 6 THEN 2 WHEN 7 THEN 1 ELSE 0 END
+            FROM (SELECT make_date(2000 + g % 26, 1, 1) + floor(random() * 358)::int AS d) f) AS fecha,
+           (ARRAY['Oficio', 'Oficio', 'Oficio', 'Oficio', 'Oficio', 'Oficio', 'Oficio',
+                  'Solicitud', 'Solicitud', 'Solicitud', 'Solicitud', 'Solicitud', 'Solicitud',
+                  'Carta', 'Carta', 'Memorando', 'Memorando', 'Informe', 'Informe',
+                  'Resolución'])[1 + floor(random() * 20)::int] AS tipo,
+           chr(65 + floor(random() * 8)::int) || '-' || lpad((1 + floor(random() * 20))::int::text, 2, '0') AS estante,
+           1 + floor(random() * 40)::int AS caja
+    FROM generate_series(0, :filas - 1) AS g
+) AS datos
+ON CONFLICT (id_expediente) DO NOTHING;
+
+ANALYZE expedientes;
@@ -2,12 +2,14 @@ package com.archivo.inventario;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Clase principal de la aplicación Spring Boot.
  * Punto de entrada para el sistema de Inventario Archivístico.
  */
 @SpringBootApplication
+@EnableScheduling
 public class InventarioApiApplication {
 
     public static void main(String[] args) {
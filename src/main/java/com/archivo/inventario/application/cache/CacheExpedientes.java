@@ -0,0 +1,184 @@
+package com.archivo.inventario.application.cache;
+
+import com.archivo.inventario.domain.model.Expediente;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Caché local del camino de lectura (buscarPorId).
+ *
+ * - Acotada a "capacidad" entradas; al llenarse se descartan las menos consultadas.
+ * - Cada entrada vence a los "ttl" segundos, lo que acota cuánto puede
+ *   quedar desactualizada frente a cambios hechos en otros nodos: invalidar()
+ *   solo limpia la caché de esta instancia.
+ * - Cuenta las consultas por N° para saber cuáles son los más calientes
+ *   (ver CalentamientoCache).
+ * - Generaciones: quien lee de la base de datos toma generacion(id) ANTES de
+ *   leer y la pasa a guardar(). Si entre tanto se invalidó el N°, la fila
+ *   leída puede ser la anterior al cambio y no se guarda. Los contadores se
+ *   reparten en franjas por hash para no crecer con cada N°; dos N° de la
+ *   misma franja solo provocan que se omita algún guardado.
+ */
+@Component
+public class CacheExpedientes {
+
+    private final int capacidad;
+    private final long ttlNanos;
+    private static final int FRANJAS = 1024;
+
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final AtomicLongArray generaciones = new AtomicLongArray(FRANJAS);
+    private final AtomicBoolean desalojando = new AtomicBoolean(false);
+
+    public CacheExpedientes(
+            @Value("${inventario.cache.capacidad:10000}") int capacidad,
+            @Value("${inventario.cache.ttl-segundos:10}") long ttlSegundos) {
+        this.capacidad = capacidad;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSegundos);
+    }
+
+    /**
+     * Busca un expediente vigente en la caché y registra la consulta.
+     */
+    public Optional<Expediente> obtener(String idExpediente) {
+        Entrada entrada = entradas.get(idExpediente);
+        if (entrada == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entrada.cargadoEn > ttlNanos) {
+            // Se deja la entrada: guardar() la reemplaza conservando el contador
+            return Optional.empty();
+        }
+        entrada.consultas.increment();
+        return Optional.of(entrada.expediente);
+    }
+
+    /**
+     * Generación actual del N°; tomarla antes de leerlo de la base de datos.
+     */
+    public long generacion(String idExpediente) {
+        return generaciones.get(franja(idExpediente));
+    }
+
+    /**
+     * Guarda un expediente leído de la base de datos, salvo que el N° se
+     * haya invalidado después de tomar "generacion".
+     * Si el N° ya estaba, conserva su contador de consultas.
+     */
+    public void guardar(Expediente expediente, long generacion) {
+        String idExpediente = expediente.getIdExpediente();
+        // compute bloquea la clave: invalidar() incrementa la generación antes
+        // de remove(), así que o se ve aquí el incremento o remove() corre después
+        entradas.compute(idExpediente, (id, anterior) -> {
+            if (generacion(id) != generacion) {
+                return anterior;
+            }
+            Entrada nueva = new Entrada(expediente, System.nanoTime());
+            nueva.consultas.add(anterior != null ? anterior.consultas.sum() : 1);
+            return nueva;
+        });
+
+        if (entradas.size() > capacidad) {
+            desalojar(idExpediente);
+        }
+    }
+
+    /**
+     * Descarta un N° tras modificarlo (registrar, actualizar, eliminar).
+     */
+    public void invalidar(String idExpediente) {
+        generaciones.incrementAndGet(franja(idExpediente));
+        entradas.remove(idExpediente);
+    }
+
+    /**
+     * N° más consultados, de mayor a menor.
+     * Luego reduce a la mitad los contadores para que pese más
+     * la actividad reciente en la próxima instantánea.
+     */
+    public List<String> masConsultados(int cantidad) {
+        List<String> ids = contadores()
+                .sorted(Comparator.comparingLong(Contador::consultas).reversed())
+                .limit(cantidad)
+                .map(Contador::idExpediente)
+                .toList();
+
+        entradas.values().forEach(Entrada::envejecer);
+        return ids;
+    }
+
+    public int tamanio() {
+        return entradas.size();
+    }
+
+    /**
+     * Elimina el 10 % menos consultado. Un solo hilo desaloja a la vez;
+     * los demás siguen sin esperar.
+     * El N° recién guardado queda fuera: con una sola consulta sería
+     * siempre el primero en salir y nunca llegaría a acumular otras.
+     */
+    private void desalojar(String recienGuardado) {
+        if (!desalojando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int aEliminar = Math.max(1, entradas.size() - capacidad + capacidad / 10);
+            contadores()
+                    .filter(c -> !c.idExpediente().equals(recienGuardado))
+                    .sorted(Comparator.comparingLong(Contador::consultas))
+                    .limit(aEliminar)
+                    .map(Contador::idExpediente)
+                    .toList()
+                    .forEach(entradas::remove);
+        } finally {
+            desalojando.set(false);
+        }
+    }
+
+    /**
+     * Copia fija de los contadores: ordenar sobre LongAdder que siguen
+     * cambiando rompería el contrato del Comparator.
+     */
+    private Stream<Contador> contadores() {
+        return entradas.entrySet()
+                .stream()
+                .map(e -> new Contador(e.getKey(), e.getValue().consultas.sum()))
+                .toList()
+                .stream();
+    }
+
+    private static int franja(String idExpediente) {
+        return Math.floorMod(idExpediente.hashCode(), FRANJAS);
+    }
+
+    private record Contador(String idExpediente, long consultas) {
+    }
+
+    private static final class Entrada {
+
+        private final Expediente expediente;
+        private final long cargadoEn;
+        private final LongAdder consultas = new LongAdder();
+
+        private Entrada(Expediente expediente, long cargadoEn) {
+            this.expediente = expediente;
+            this.cargadoEn = cargadoEn;
+        }
+
+        private void envejecer() {
+            long actual = consultas.sum();
+            consultas.add(-(actual / 2));
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.archivo.inventario.application.service;
 
+import com.archivo.inventario.domain.model.CampoExpediente;
 import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Puerto de entrada de la aplicación (Driving Port).
@@ -28,6 +31,25 @@ public interface ExpedienteService {
      */
     Expediente buscarPorId(String idExpediente);
 
+    /**
+     * Busca varios expedientes por N° en un solo viaje a la base de datos.
+     * NO lanza ExpedienteNoEncontradoException: los N° inexistentes
+     * simplemente se omiten del resultado.
+     * 
+     * @param idsExpediente N° de Expediente solicitados (se ignoran repetidos)
+     * @return expedientes encontrados, en el orden en que fueron solicitados
+     */
+    List<Expediente> buscarPorIds(List<String> idsExpediente);
+
+    /**
+     * Igual que buscarPorIds, pero leyendo solo los campos indicados.
+     * 
+     * @param idsExpediente N° de Expediente solicitados
+     * @param campos        campos a devolver (el N° se incluye siempre)
+     * @return expedientes encontrados, parcialmente poblados
+     */
+    List<Expediente> buscarPorIds(List<String> idsExpediente, Set<CampoExpediente> campos);
+
     /**
      * Lista todos los expedientes registrados.
      * 
@@ -35,6 +57,32 @@ public interface ExpedienteService {
      */
     List<Expediente> listarTodos();
 
+    /**
+     * Lista todos los expedientes leyendo solo los campos indicados.
+     * Pensado para vistas resumen que no muestran asunto ni observaciones.
+     * 
+     * @param campos campos a devolver (el N° se incluye siempre)
+     * @return lista de expedientes parcialmente poblados
+     */
+    List<Expediente> listarTodos(Set<CampoExpediente> campos);
+
+    /**
+     * Lista los expedientes activos guardados en una caja.
+     * 
+     * @param estante código del estante (ej. "A-01")
+     * @param caja    número de caja
+     * @return contenido de la caja
+     */
+    List<Expediente> buscarPorUbicacion(String estante, int caja);
+
+    /**
+     * Resume la ocupación por caja de un estante ("A-01") o fila ("A").
+     * 
+     * @param estante código o prefijo del estante
+     * @return expedientes y folios por caja
+     */
+    List<OcupacionCaja> ocupacionEstante(String estante);
+
     /**
      * Actualiza los datos de un expediente existente.
      * Sigue el flujo: findById → mapear campos → save (UPDATE real).
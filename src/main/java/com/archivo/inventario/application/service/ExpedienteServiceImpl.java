@@ -1,14 +1,27 @@
 package com.archivo.inventario.application.service;
 
+import com.archivo.inventario.application.cache.CacheExpedientes;
 import com.archivo.inventario.domain.exception.ExpedienteDuplicadoException;
 import com.archivo.inventario.domain.exception.ExpedienteNoEncontradoException;
+import com.archivo.inventario.domain.model.CampoExpediente;
 import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
+import com.archivo.inventario.domain.model.UbicacionFisica;
 import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementación de los casos de uso del inventario archivístico.
@@ -20,6 +33,7 @@ import java.util.List;
 public class ExpedienteServiceImpl implements ExpedienteService {
 
     private final ExpedienteRepositoryPort repositoryPort;
+    private final CacheExpedientes cache;
 
     /**
      * Registra un nuevo expediente.
@@ -37,18 +51,64 @@ public class ExpedienteServiceImpl implements ExpedienteService {
         // Todo expediente nuevo se registra como activo
         expediente.setActivo(true);
 
-        return repositoryPort.save(expediente);
+        // Estante y caja se derivan del texto libre de archivado
+        asignarUbicacion(expediente);
+
+        Expediente registrado = repositoryPort.save(expediente);
+        invalidarAlConfirmar(expediente.getIdExpediente());
+        return registrado;
     }
 
     /**
      * Busca un expediente por N° de Expediente.
+     * Primero consulta la caché local; solo si no está va a la base de datos.
      * REGLA: Si no existe, lanza 404 Not Found.
+     *
+     * SUPPORTS: no abre una transacción propia, así que un acierto de caché
+     * no toma una conexión del pool. En un fallo, findById usa la
+     * transacción de solo lectura del repositorio (o ninguna, con JDBC).
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Expediente buscarPorId(String idExpediente) {
-        return repositoryPort.findById(idExpediente)
+        Optional<Expediente> cacheado = cache.obtener(idExpediente);
+        if (cacheado.isPresent()) {
+            return cacheado.get();
+        }
+
+        // Antes de leer: si el N° se invalida mientras tanto, no se cachea la fila leída
+        long generacion = cache.generacion(idExpediente);
+        Expediente expediente = repositoryPort.findById(idExpediente)
                 .orElseThrow(() -> new ExpedienteNoEncontradoException(idExpediente));
+        cache.guardar(expediente, generacion);
+        return expediente;
+    }
+
+    /**
+     * Busca varios expedientes con una sola consulta.
+     * El resultado respeta el orden de la solicitud para que el cliente
+     * pueda pintarlo directamente.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Expediente> buscarPorIds(List<String> idsExpediente) {
+
+        // Eliminar repetidos conservando el orden de la solicitud
+        Set<String> idsUnicos = new LinkedHashSet<>(idsExpediente);
+
+        return ordenarSegun(idsUnicos, repositoryPort.findAllById(idsUnicos));
+    }
+
+    /**
+     * Consulta múltiple con proyección de campos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Expediente> buscarPorIds(List<String> idsExpediente, Set<CampoExpediente> campos) {
+
+        Set<String> idsUnicos = new LinkedHashSet<>(idsExpediente);
+
+        return ordenarSegun(idsUnicos, repositoryPort.findAllById(idsUnicos, campos));
     }
 
     /**
@@ -60,6 +120,33 @@ public class ExpedienteServiceImpl implements ExpedienteService {
         return repositoryPort.findAll();
     }
 
+    /**
+     * Lista todos los expedientes con proyección de campos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Expediente> listarTodos(Set<CampoExpediente> campos) {
+        return repositoryPort.findAll(campos);
+    }
+
+    /**
+     * Contenido de una caja (consulta por rango sobre el índice de ubicación).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Expediente> buscarPorUbicacion(String estante, int caja) {
+        return repositoryPort.findByUbicacion(UbicacionFisica.normalizarEstante(estante), caja);
+    }
+
+    /**
+     * Ocupación por caja de un estante o de toda una fila.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OcupacionCaja> ocupacionEstante(String estante) {
+        return repositoryPort.findOcupacionEstante(UbicacionFisica.normalizarEstante(estante));
+    }
+
     /**
      * Actualiza un expediente existente.
      * FLUJO ESTRICTO (previene INSERT accidental):
@@ -85,10 +172,13 @@ public class ExpedienteServiceImpl implements ExpedienteService {
         existente.setFolios(datosNuevos.getFolios());
         existente.setArchivadoCon(datosNuevos.getArchivadoCon());
         existente.setObservaciones(datosNuevos.getObservaciones());
+        asignarUbicacion(existente);
         // NOTA: No se modifica 'activo' ni 'idExpediente' en la actualización
 
         // Paso 3: Save sobre la entidad gestionada → genera UPDATE
-        return repositoryPort.save(existente);
+        Expediente actualizado = repositoryPort.save(existente);
+        invalidarAlConfirmar(idExpediente);
+        return actualizado;
     }
 
     /**
@@ -105,5 +195,50 @@ public class ExpedienteServiceImpl implements ExpedienteService {
         // Soft delete: marcar como inactivo
         expediente.setActivo(false);
         repositoryPort.save(expediente);
+        invalidarAlConfirmar(idExpediente);
+    }
+
+    /**
+     * Descarta el N° de la caché cuando la transacción confirma.
+     * Invalidar antes dejaría una ventana en la que otra lectura vuelve a
+     * cachear la fila anterior, aún sin confirmar la nueva; y si hay
+     * rollback, la entrada cacheada sigue siendo válida.
+     */
+    private void invalidarAlConfirmar(String idExpediente) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidar(idExpediente);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidar(idExpediente);
+            }
+        });
+    }
+
+    /**
+     * Copia al expediente el estante y la caja interpretados de archivadoCon.
+     */
+    private void asignarUbicacion(Expediente expediente) {
+        UbicacionFisica ubicacion = UbicacionFisica.desde(expediente.getArchivadoCon());
+        expediente.setEstante(ubicacion.getEstante());
+        expediente.setCaja(ubicacion.getCaja());
+    }
+
+    /**
+     * Devuelve los expedientes encontrados en el orden de los N° solicitados.
+     */
+    private List<Expediente> ordenarSegun(Set<String> idsUnicos, List<Expediente> encontrados) {
+
+        Map<String, Expediente> porId = new HashMap<>();
+        for (Expediente expediente : encontrados) {
+            porId.put(expediente.getIdExpediente(), expediente);
+        }
+
+        return idsUnicos.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
@@ -0,0 +1,18 @@
+package com.archivo.inventario.application.service;
+
+/**
+ * Puerto de entrada de la aplicación (Driving Port).
+ * Asigna el siguiente N° de Expediente libre con formato "NNN-YYYY".
+ */
+public interface NumeracionExpedienteService {
+
+    /**
+     * Entrega el siguiente N° de Expediente del año en curso.
+     * Cada N° se entrega una sola vez, incluso entre varios nodos.
+     * Puede haber huecos (números reservados que nunca se registran).
+     * Los N° ya registrados (p. ej. escritos a mano) se saltan.
+     * 
+     * @return N° de Expediente (ej. "006-2025")
+     */
+    String siguienteNumero();
+}
@@ -0,0 +1,121 @@
+package com.archivo.inventario.application.service;
+
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import com.archivo.inventario.domain.port.SecuenciaExpedienteRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementación de la numeración de expedientes.
+ *
+ * Cada nodo reserva bloques de N° por año en la base de datos y los
+ * reparte desde memoria con un contador atómico: solo se consulta la
+ * base de datos cuando el bloque del año se agota.
+ * Al cambiar de año se abre un bloque nuevo para el año en curso.
+ *
+ * registrar sigue aceptando N° escritos a mano, que pueden caer dentro
+ * o por encima de los bloques reservados; por eso cada N° se comprueba
+ * contra la tabla antes de entregarlo y los ya usados se saltan.
+ */
+@Service
+public class NumeracionExpedienteServiceImpl implements NumeracionExpedienteService {
+
+    private final SecuenciaExpedienteRepositoryPort secuenciaPort;
+    private final ExpedienteRepositoryPort expedientePort;
+    private final int tamanioBloque;
+    private final Clock reloj;
+
+    /** Bloque vigente por año. */
+    private final Map<Integer, Bloque> bloques = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NumeracionExpedienteServiceImpl(
+            SecuenciaExpedienteRepositoryPort secuenciaPort,
+            ExpedienteRepositoryPort expedientePort,
+            @Value("${inventario.numeracion.tamanio-bloque:50}") int tamanioBloque) {
+        this(secuenciaPort, expedientePort, tamanioBloque, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Permite fijar el reloj (cambio de año) en las pruebas.
+     */
+    NumeracionExpedienteServiceImpl(SecuenciaExpedienteRepositoryPort secuenciaPort,
+            ExpedienteRepositoryPort expedientePort, int tamanioBloque, Clock reloj) {
+        this.secuenciaPort = secuenciaPort;
+        this.expedientePort = expedientePort;
+        this.tamanioBloque = tamanioBloque;
+        this.reloj = reloj;
+    }
+
+    /**
+     * Entrega el siguiente N° del bloque que no esté registrado
+     * (una consulta por llave primaria por N° entregado).
+     */
+    @Override
+    public String siguienteNumero() {
+        while (true) {
+            String numero = tomarDelBloque();
+            if (!expedientePort.existsById(numero)) {
+                return numero;
+            }
+        }
+    }
+
+    /**
+     * Camino rápido sin bloqueo: incrementa el contador del bloque vigente.
+     * Solo cuando el bloque se agota se sincroniza para reservar otro.
+     */
+    private String tomarDelBloque() {
+        int anio = Year.now(reloj).getValue();
+
+        while (true) {
+            Bloque bloque = bloques.get(anio);
+            if (bloque != null) {
+                long numero = bloque.siguiente.getAndIncrement();
+                if (numero <= bloque.limite) {
+                    return formatear(numero, anio);
+                }
+            }
+            renovarBloque(anio, bloque);
+        }
+    }
+
+    /**
+     * Reserva un bloque nuevo si nadie lo hizo antes (doble verificación).
+     * Los bloques de años anteriores se descartan.
+     */
+    private synchronized void renovarBloque(int anio, Bloque agotado) {
+        if (bloques.get(anio) != agotado) {
+            return;
+        }
+
+        long ultimo = secuenciaPort.reservarBloque(anio, tamanioBloque);
+        bloques.put(anio, new Bloque(ultimo - tamanioBloque + 1, ultimo));
+        bloques.keySet().removeIf(otroAnio -> otroAnio < anio);
+    }
+
+    private static String formatear(long numero, int anio) {
+        return String.format("%03d-%d", numero, anio);
+    }
+
+    /**
+     * Rango [siguiente, limite] reservado para este nodo.
+     */
+    private static final class Bloque {
+
+        private final AtomicLong siguiente;
+        private final long limite;
+
+        private Bloque(long primero, long limite) {
+            this.siguiente = new AtomicLong(primero);
+            this.limite = limite;
+        }
+    }
+}
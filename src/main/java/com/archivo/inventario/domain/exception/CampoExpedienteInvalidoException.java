@@ -0,0 +1,14 @@
+package com.archivo.inventario.domain.exception;
+
+/**
+ * Excepción de dominio lanzada cuando se solicita un campo
+ * que no existe en el Expediente (parámetro "fields").
+ * Mapea a HTTP 400 Bad Request.
+ * Sin stack trace: es un error del cliente, no del sistema.
+ */
+public class CampoExpedienteInvalidoException extends RuntimeException {
+
+    public CampoExpedienteInvalidoException(String campo) {
+        super("El campo '" + campo + "' no existe en el expediente", null, false, false);
+    }
+}
@@ -4,10 +4,13 @@ package com.archivo.inventario.domain.exception;
  * Excepción de dominio lanzada cuando no se encuentra
  * un expediente con el N° proporcionado.
  * Mapea a HTTP 404 Not Found.
+ *
+ * Es un flujo esperado (no un error del sistema): se crea sin stack trace
+ * ni supresiones, ya que llenar la traza es lo más costoso de la excepción.
  */
 public class ExpedienteNoEncontradoException extends RuntimeException {
 
     public ExpedienteNoEncontradoException(String idExpediente) {
-        super("No se encontró el expediente con N° " + idExpediente);
+        super("No se encontró el expediente con N° " + idExpediente, null, false, false);
     }
 }
@@ -0,0 +1,103 @@
+package com.archivo.inventario.domain.model;
+
+import com.archivo.inventario.domain.exception.CampoExpedienteInvalidoException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de un Expediente que pueden solicitarse por separado
+ * (sparse fieldsets / proyecciones).
+ * Permite que las vistas de listado pidan solo las columnas que muestran
+ * y que la persistencia omita las columnas TEXT (asunto, observaciones).
+ *
+ * - nombre: nombre público del campo (snake_case, igual que en el JSON).
+ * - tipo: tipo Java del campo en Expediente.
+ * Las columnas de la tabla las define cada adaptador de persistencia.
+ */
+public enum CampoExpediente {
+
+    ID_EXPEDIENTE("id_expediente", String.class),
+    FECHA_REGISTRO("fecha_registro", LocalDate.class),
+    TIPO_DOCUMENTO("tipo_documento", String.class),
+    NUM_DOCUMENTO("num_documento", String.class),
+    NOMBRE_SOLICITANTE("nombre_solicitante", String.class),
+    DNI_SOLICITANTE("dni_solicitante", String.class),
+    ASUNTO("asunto", String.class),
+    DIRIGIDO_A("dirigido_a", String.class),
+    FOLIOS("folios", Integer.class),
+    ARCHIVADO_CON("archivado_con", String.class),
+    ESTANTE("estante", String.class),
+    CAJA("caja", Integer.class),
+    OBSERVACIONES("observaciones", String.class),
+    ACTIVO("activo", Boolean.class);
+
+    private final String nombre;
+    private final Class<?> tipo;
+
+    CampoExpediente(String nombre, Class<?> tipo) {
+        this.nombre = nombre;
+        this.tipo = tipo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public Class<?> getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Asigna el valor leído de la persistencia al campo correspondiente.
+     */
+    public void asignar(Expediente expediente, Object valor) {
+        switch (this) {
+            case ID_EXPEDIENTE -> expediente.setIdExpediente((String) valor);
+            case FECHA_REGISTRO -> expediente.setFechaRegistro((LocalDate) valor);
+            case TIPO_DOCUMENTO -> expediente.setTipoDocumento((String) valor);
+            case NUM_DOCUMENTO -> expediente.setNumDocumento((String) valor);
+            case NOMBRE_SOLICITANTE -> expediente.setNombreSolicitante((String) valor);
+            case DNI_SOLICITANTE -> expediente.setDniSolicitante((String) valor);
+            case ASUNTO -> expediente.setAsunto((String) valor);
+            case DIRIGIDO_A -> expediente.setDirigidoA((String) valor);
+            case FOLIOS -> expediente.setFolios((Integer) valor);
+            case ARCHIVADO_CON -> expediente.setArchivadoCon((String) valor);
+            case ESTANTE -> expediente.setEstante((String) valor);
+            case CAJA -> expediente.setCaja((Integer) valor);
+            case OBSERVACIONES -> expediente.setObservaciones((String) valor);
+            case ACTIVO -> expediente.setActivo((Boolean) valor);
+        }
+    }
+
+    /**
+     * Convierte los nombres públicos solicitados en un conjunto de campos.
+     * El N° de Expediente se incluye siempre (es la llave).
+     * Lanza CampoExpedienteInvalidoException si algún nombre no existe.
+     *
+     * @param nombres nombres en snake_case (ej. "fecha_registro")
+     * @return campos solicitados, o todos si no se pidió ninguno
+     */
+    public static Set<CampoExpediente> desdeNombres(Collection<String> nombres) {
+        if (nombres == null || nombres.isEmpty()) {
+            return EnumSet.allOf(CampoExpediente.class);
+        }
+
+        Set<CampoExpediente> campos = EnumSet.of(ID_EXPEDIENTE);
+        for (String nombre : nombres) {
+            campos.add(desdeNombre(nombre.trim()));
+        }
+        return campos;
+    }
+
+    private static CampoExpediente desdeNombre(String nombre) {
+        for (CampoExpediente campo : values()) {
+            if (campo.nombre.equals(nombre)) {
+                return campo;
+            }
+        }
+        throw new CampoExpedienteInvalidoException(nombre);
+    }
+}
@@ -54,6 +54,12 @@ public class Expediente {
     /** Ubicación o referencia de archivado */
     private String archivadoCon;
 
+    /** Estante extraído de archivadoCon (ej. "A-01") */
+    private String estante;
+
+    /** Caja extraída de archivadoCon (ej. 12) */
+    private Integer caja;
+
     /** Observaciones adicionales */
     private String observaciones;
 
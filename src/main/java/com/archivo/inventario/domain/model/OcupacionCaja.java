@@ -0,0 +1,26 @@
+package com.archivo.inventario.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resumen de ocupación de una caja: cuántos expedientes activos
+ * contiene y cuántos folios suman.
+ * NO contiene anotaciones de frameworks (JPA, Spring).
+ */
+@Getter
+@AllArgsConstructor
+public class OcupacionCaja {
+
+    /** Código del estante (ej. "A-01") */
+    private final String estante;
+
+    /** Número de caja */
+    private final Integer caja;
+
+    /** Cantidad de expedientes activos en la caja */
+    private final long expedientes;
+
+    /** Suma de folios de los expedientes activos */
+    private final long folios;
+}
@@ -0,0 +1,70 @@
+package com.archivo.inventario.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ubicación física estructurada de un expediente (estante y caja).
+ * Se obtiene del texto libre "archivado_con" (ej. "Estante A-01, Caja 12").
+ * NO contiene anotaciones de frameworks (JPA, Spring).
+ *
+ * NOTA: Las expresiones deben coincidir con las de la migración
+ * V3__agregar_ubicacion_fisica.sql, que rellena los registros existentes.
+ */
+@Getter
+@AllArgsConstructor
+public class UbicacionFisica {
+
+    /**
+     * Hasta 20 caracteres (largo de la columna "estante"). Un código más
+     * largo no se recorta: no coincide y el estante queda en null.
+     * Lo mismo para una caja de más de 9 dígitos (no cabe en INTEGER).
+     */
+    private static final Pattern PATRON_ESTANTE =
+            Pattern.compile("estante\\s+([A-Za-z0-9-]{1,20})(?![A-Za-z0-9-])", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern PATRON_CAJA =
+            Pattern.compile("caja\\s+([0-9]{1,9})(?![0-9])", Pattern.CASE_INSENSITIVE);
+
+    private static final UbicacionFisica SIN_UBICACION = new UbicacionFisica(null, null);
+
+    /** Código del estante en mayúsculas (ej. "A-01"), o null */
+    private final String estante;
+
+    /** Número de caja dentro del estante, o null */
+    private final Integer caja;
+
+    /**
+     * Interpreta el texto libre de archivado.
+     * Las partes que no se reconocen quedan en null.
+     *
+     * @param archivadoCon texto libre (puede ser null)
+     * @return ubicación estructurada
+     */
+    public static UbicacionFisica desde(String archivadoCon) {
+        if (archivadoCon == null || archivadoCon.isBlank()) {
+            return SIN_UBICACION;
+        }
+
+        Matcher estante = PATRON_ESTANTE.matcher(archivadoCon);
+        Matcher caja = PATRON_CAJA.matcher(archivadoCon);
+
+        return new UbicacionFisica(
+                estante.find() ? normalizarEstante(estante.group(1)) : null,
+                caja.find() ? Integer.valueOf(caja.group(1)) : null);
+    }
+
+    /**
+     * Código de estante tal como se guarda y se consulta (en mayúsculas).
+     *
+     * @param estante código recibido (ej. "a-01")
+     * @return código normalizado (ej. "A-01")
+     */
+    public static String normalizarEstante(String estante) {
+        return estante.toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,13 @@
 package com.archivo.inventario.domain.port;
 
+import com.archivo.inventario.domain.model.CampoExpediente;
 import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto de salida del dominio (Driven Port).
@@ -35,6 +39,52 @@ public interface ExpedienteRepositoryPort {
      */
     List<Expediente> findAll();
 
+    /**
+     * Lista todos los expedientes cargando solo los campos indicados
+     * (proyección resuelta en la consulta, no después de leer la fila).
+     * Los campos no solicitados quedan en null.
+     * 
+     * @param campos campos a leer
+     * @return lista de expedientes parcialmente poblados
+     */
+    List<Expediente> findAll(Set<CampoExpediente> campos);
+
+    /**
+     * Busca varios expedientes por su N° en una sola consulta.
+     * Los N° inexistentes simplemente no aparecen en el resultado.
+     * 
+     * @param idsExpediente llaves primarias naturales
+     * @return expedientes encontrados (sin orden garantizado)
+     */
+    List<Expediente> findAllById(Collection<String> idsExpediente);
+
+    /**
+     * Igual que findAllById, pero leyendo solo los campos indicados.
+     * 
+     * @param idsExpediente llaves primarias naturales
+     * @param campos        campos a leer
+     * @return expedientes encontrados, parcialmente poblados
+     */
+    List<Expediente> findAllById(Collection<String> idsExpediente, Set<CampoExpediente> campos);
+
+    /**
+     * Lista los expedientes activos guardados en una caja.
+     * 
+     * @param estante código del estante (ej. "A-01")
+     * @param caja    número de caja
+     * @return expedientes de la caja
+     */
+    List<Expediente> findByUbicacion(String estante, int caja);
+
+    /**
+     * Resume la ocupación (expedientes y folios) de cada caja de un estante.
+     * Acepta el código completo ("A-01") o solo la fila ("A").
+     * 
+     * @param estante código o prefijo del estante
+     * @return ocupación por caja, ordenada por estante y caja
+     */
+    List<OcupacionCaja> findOcupacionEstante(String estante);
+
     /**
      * Verifica si existe un expediente con el N° dado.
      * 
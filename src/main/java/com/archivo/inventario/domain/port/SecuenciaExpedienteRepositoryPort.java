@@ -0,0 +1,21 @@
+package com.archivo.inventario.domain.port;
+
+/**
+ * Puerto de salida del dominio (Driven Port) para la numeración
+ * de expedientes "NNN-YYYY".
+ * Mantiene un contador por año compartido por todos los nodos.
+ */
+public interface SecuenciaExpedienteRepositoryPort {
+
+    /**
+     * Reserva de forma atómica un bloque de números consecutivos para el año.
+     * Si el año aún no tiene contador, se inicializa con el mayor N° ya
+     * registrado en ese año, para no chocar con expedientes existentes.
+     * 
+     * @param anio    año de la numeración (parte YYYY)
+     * @param tamanio cantidad de números a reservar
+     * @return último número del bloque reservado (el bloque es
+     *         [resultado - tamanio + 1, resultado])
+     */
+    long reservarBloque(int anio, int tamanio);
+}
@@ -0,0 +1,26 @@
+package com.archivo.inventario.domain.port;
+
+import java.util.List;
+
+/**
+ * Puerto de salida del dominio (Driven Port) para la instantánea
+ * de expedientes más consultados (warm start).
+ * Solo se guardan los N°: al arrancar, los datos se leen frescos
+ * de la base de datos.
+ */
+public interface SnapshotExpedientesPort {
+
+    /**
+     * Reemplaza la instantánea con los N° indicados.
+     * 
+     * @param idsExpediente N° ordenados del más al menos consultado
+     */
+    void guardar(List<String> idsExpediente);
+
+    /**
+     * Lee la última instantánea guardada.
+     * 
+     * @return N° guardados, o lista vacía si no hay instantánea válida
+     */
+    List<String> cargar();
+}
@@ -0,0 +1,113 @@
+package com.archivo.inventario.infrastructure.config;
+
+import com.archivo.inventario.application.cache.CacheExpedientes;
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import com.archivo.inventario.domain.port.SnapshotExpedientesPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Arranque en caliente (warm start) de la caché de lectura.
+ *
+ * - Cada cierto tiempo guarda en disco los N° más consultados.
+ * - Al arrancar, carga esa instantánea en segundo plano, leyendo los
+ *   expedientes por lotes (una consulta por lote) y llenando la caché.
+ * - Mientras no termina, este indicador de salud está DOWN y forma parte
+ *   del grupo "readiness": el balanceador no envía tráfico completo a la
+ *   instancia hasta que la caché esté caliente.
+ */
+@Slf4j
+@Component("calentamientoCache")
+public class CalentamientoCache implements HealthIndicator {
+
+    private static final int TAMANIO_LOTE = 500;
+
+    private final CacheExpedientes cache;
+    private final ExpedienteRepositoryPort repositoryPort;
+    private final SnapshotExpedientesPort snapshotPort;
+    private final int tamanioSnapshot;
+
+    private volatile boolean completo;
+    private volatile int cargados;
+
+    public CalentamientoCache(
+            CacheExpedientes cache,
+            ExpedienteRepositoryPort repositoryPort,
+            SnapshotExpedientesPort snapshotPort,
+            @Value("${inventario.cache.snapshot.tamanio:2000}") int tamanioSnapshot) {
+        this.cache = cache;
+        this.repositoryPort = repositoryPort;
+        this.snapshotPort = snapshotPort;
+        this.tamanioSnapshot = tamanioSnapshot;
+    }
+
+    /**
+     * Inicia el calentamiento sin bloquear el arranque de la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        Thread.ofVirtual()
+                .name("calentamiento-cache")
+                .start(this::calentar);
+    }
+
+    /**
+     * Guarda periódicamente la instantánea de los N° más consultados.
+     * No se guarda antes de terminar el calentamiento, para no pisar
+     * la instantánea anterior con una caché todavía vacía.
+     */
+    @Scheduled(fixedDelayString = "${inventario.cache.snapshot.intervalo-ms:60000}",
+            initialDelayString = "${inventario.cache.snapshot.intervalo-ms:60000}")
+    public void guardarSnapshot() {
+        if (!completo) {
+            return;
+        }
+        List<String> calientes = cache.masConsultados(tamanioSnapshot);
+        if (!calientes.isEmpty()) {
+            snapshotPort.guardar(calientes);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = completo ? Health.up() : Health.down();
+        return builder
+                .withDetail("expedientesCargados", cargados)
+                .withDetail("tamanioCache", cache.tamanio())
+                .build();
+    }
+
+    private void calentar() {
+        long inicio = System.currentTimeMillis();
+        try {
+            List<String> ids = snapshotPort.cargar();
+            for (int desde = 0; desde < ids.size(); desde += TAMANIO_LOTE) {
+                List<String> lote = ids.subList(desde, Math.min(desde + TAMANIO_LOTE, ids.size()));
+                Map<String, Long> generaciones = lote.stream()
+                        .collect(Collectors.toMap(Function.identity(), cache::generacion, (primera, repetida) -> primera));
+                repositoryPort.findAllById(lote)
+                        .forEach(e -> cache.guardar(e, generaciones.get(e.getIdExpediente())));
+                cargados = Math.min(desde + TAMANIO_LOTE, ids.size());
+            }
+            log.info("Caché calentada con {} expedientes en {} ms",
+                    cache.tamanio(), System.currentTimeMillis() - inicio);
+        } catch (RuntimeException e) {
+            // Una instantánea dañada o la base caída no deben dejar
+            // la instancia fuera de servicio para siempre.
+            log.warn("No se pudo calentar la caché: {}", e.getMessage());
+        } finally {
+            completo = true;
+        }
+    }
+}
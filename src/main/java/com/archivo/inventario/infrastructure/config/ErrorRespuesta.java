@@ -0,0 +1,58 @@
+package com.archivo.inventario.infrastructure.config;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuerpo JSON de las respuestas de error de la API.
+ * Usa Java Record (inmutable) en lugar de un HashMap por respuesta;
+ * "errores" solo se incluye en los errores de validación (non_null).
+ *
+ * La marca de tiempo tiene precisión de segundos y su texto se reutiliza
+ * mientras no cambie el segundo, para no formatear la fecha en cada error.
+ */
+public record ErrorRespuesta(
+        String timestamp,
+        int status,
+        String error,
+        String mensaje,
+        List<Map<String, String>> errores) {
+
+    private static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /** Último segundo formateado: se reemplaza de forma atómica. */
+    private static volatile MarcaTiempo ultimaMarca = new MarcaTiempo(0, "");
+
+    public static ErrorRespuesta de(int status, String error, String mensaje) {
+        return new ErrorRespuesta(marcaTiempo(), status, error, mensaje, null);
+    }
+
+    public static ErrorRespuesta de(int status, String error, String mensaje,
+            List<Map<String, String>> errores) {
+        return new ErrorRespuesta(marcaTiempo(), status, error, mensaje, errores);
+    }
+
+    /**
+     * El segundo y el texto salen del mismo Instant: con dos lecturas del
+     * reloj, un cambio de segundo entre ambas guardaría el texto del
+     * segundo siguiente bajo la llave del anterior.
+     */
+    private static String marcaTiempo() {
+        Instant ahora = Instant.now();
+        long segundo = ahora.getEpochSecond();
+        MarcaTiempo marca = ultimaMarca;
+        if (marca.segundo() != segundo) {
+            marca = new MarcaTiempo(segundo,
+                    FORMATO.format(LocalDateTime.ofInstant(ahora, ZoneId.systemDefault())));
+            ultimaMarca = marca;
+        }
+        return marca.texto();
+    }
+
+    private record MarcaTiempo(long segundo, String texto) {
+    }
+}
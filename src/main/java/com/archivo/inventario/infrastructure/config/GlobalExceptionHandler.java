@@ -1,5 +1,6 @@
 package com.archivo.inventario.infrastructure.config;
 
+import com.archivo.inventario.domain.exception.CampoExpedienteInvalidoException;
 import com.archivo.inventario.domain.exception.ExpedienteDuplicadoException;
 import com.archivo.inventario.domain.exception.ExpedienteNoEncontradoException;
 import org.springframework.http.HttpStatus;
@@ -7,8 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,9 +20,14 @@ import java.util.Map;
  *
  * Excepciones manejadas:
  * - MethodArgumentNotValidException → 400 Bad Request (errores de validación)
+ * - CampoExpedienteInvalidoException → 400 Bad Request (parámetro fields)
+ * - MethodArgumentTypeMismatchException → 400 Bad Request (ej. caja no numérica)
  * - ExpedienteDuplicadoException → 409 Conflict
  * - ExpedienteNoEncontradoException → 404 Not Found
  * - Exception genérica → 500 Internal Server Error
+ *
+ * Los 404 y 409 son frecuentes (clientes que sondean N°), por eso el cuerpo
+ * es un ErrorRespuesta liviano y las excepciones de dominio no llevan stack trace.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,7 +41,7 @@ public class GlobalExceptionHandler {
      * Devuelve un listado detallado de todos los campos que fallaron.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationErrors(
+    public ResponseEntity<ErrorRespuesta> handleValidationErrors(
             MethodArgumentNotValidException ex) {
 
         // Extraer cada error de campo con su mensaje
@@ -54,12 +60,46 @@ public class GlobalExceptionHandler {
                 })
                 .toList();
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now().toString());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", "Error de validación");
-        response.put("mensaje", "Los datos enviados no cumplen con las reglas de validación");
-        response.put("errores", errores);
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.BAD_REQUEST.value(),
+                "Error de validación",
+                "Los datos enviados no cumplen con las reglas de validación",
+                errores);
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * Captura solicitudes de campos inexistentes en el parámetro "fields".
+     */
+    @ExceptionHandler(CampoExpedienteInvalidoException.class)
+    public ResponseEntity<ErrorRespuesta> handleCampoInvalido(
+            CampoExpedienteInvalidoException ex) {
+
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.BAD_REQUEST.value(),
+                "Campo no válido",
+                ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * Captura parámetros de ruta o de consulta que no se pueden convertir
+     * al tipo esperado (ej. caja "12a" o fuera del rango de int).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorRespuesta> handleTipoParametro(
+            MethodArgumentTypeMismatchException ex) {
+
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.BAD_REQUEST.value(),
+                "Parámetro no válido",
+                "El valor '" + ex.getValue() + "' no es válido para '" + ex.getName() + "'");
 
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
@@ -74,14 +114,13 @@ public class GlobalExceptionHandler {
      * Captura intentos de registrar un expediente con un N° que ya existe.
      */
     @ExceptionHandler(ExpedienteDuplicadoException.class)
-    public ResponseEntity<Map<String, Object>> handleDuplicado(
+    public ResponseEntity<ErrorRespuesta> handleDuplicado(
             ExpedienteDuplicadoException ex) {
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now().toString());
-        response.put("status", HttpStatus.CONFLICT.value());
-        response.put("error", "Conflicto");
-        response.put("mensaje", ex.getMessage());
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.CONFLICT.value(),
+                "Conflicto",
+                ex.getMessage());
 
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
@@ -96,14 +135,13 @@ public class GlobalExceptionHandler {
      * Captura búsquedas de expedientes que no existen en el sistema.
      */
     @ExceptionHandler(ExpedienteNoEncontradoException.class)
-    public ResponseEntity<Map<String, Object>> handleNoEncontrado(
+    public ResponseEntity<ErrorRespuesta> handleNoEncontrado(
             ExpedienteNoEncontradoException ex) {
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now().toString());
-        response.put("status", HttpStatus.NOT_FOUND.value());
-        response.put("error", "No encontrado");
-        response.put("mensaje", ex.getMessage());
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.NOT_FOUND.value(),
+                "No encontrado",
+                ex.getMessage());
 
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
@@ -118,13 +156,12 @@ public class GlobalExceptionHandler {
      * Captura cualquier otra excepción no controlada.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
+    public ResponseEntity<ErrorRespuesta> handleGeneral(Exception ex) {
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now().toString());
-        response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        response.put("error", "Error interno del servidor");
-        response.put("mensaje", "Ocurrió un error inesperado. Contacte al administrador.");
+        ErrorRespuesta response = ErrorRespuesta.de(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Error interno del servidor",
+                "Ocurrió un error inesperado. Contacte al administrador.");
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
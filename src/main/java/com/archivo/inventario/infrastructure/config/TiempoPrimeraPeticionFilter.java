@@ -0,0 +1,42 @@
+package com.archivo.inventario.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mide el tiempo desde el arranque de la JVM hasta la primera petición
+ * respondida (time-to-first-request).
+ * Sirve para comparar los modos de arranque (normal, AOT, CDS, nativo).
+ * Después de la primera petición solo cuesta una lectura de un booleano.
+ */
+@Slf4j
+@Component
+public class TiempoPrimeraPeticionFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean medido = new AtomicBoolean(false);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        filterChain.doFilter(request, response);
+
+        if (!medido.get() && medido.compareAndSet(false, true)) {
+            long inicioJvm = ManagementFactory.getRuntimeMXBean().getStartTime();
+            log.info("Primera petición respondida a los {} ms del arranque de la JVM ({} {})",
+                    System.currentTimeMillis() - inicioJvm,
+                    request.getMethod(),
+                    request.getRequestURI());
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package com.archivo.inventario.infrastructure.in.web;
 
 import com.archivo.inventario.application.service.ExpedienteService;
+import com.archivo.inventario.application.service.NumeracionExpedienteService;
+import com.archivo.inventario.domain.model.CampoExpediente;
 import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
+import com.archivo.inventario.domain.model.UbicacionFisica;
+import com.archivo.inventario.infrastructure.in.web.dto.ExpedienteLoteRequestDto;
+import com.archivo.inventario.infrastructure.in.web.dto.ExpedienteLoteResponseDto;
 import com.archivo.inventario.infrastructure.in.web.dto.ExpedienteRequestDto;
 import com.archivo.inventario.infrastructure.in.web.dto.ExpedienteResponseDto;
+import com.archivo.inventario.infrastructure.in.web.dto.NumeroExpedienteResponseDto;
+import com.archivo.inventario.infrastructure.in.web.dto.OcupacionCajaResponseDto;
+import com.archivo.inventario.infrastructure.in.web.dto.OcupacionEstanteResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controlador REST para el recurso Expediente.
@@ -26,6 +38,7 @@ import java.util.List;
 public class ExpedienteController {
 
     private final ExpedienteService expedienteService;
+    private final NumeracionExpedienteService numeracionService;
 
     // ==========================================
     // POST - Registrar nuevo expediente
@@ -49,6 +62,23 @@ public class ExpedienteController {
                 .body(toResponseDto(registrado));
     }
 
+    // ==========================================
+    // POST - Asignar siguiente N° de Expediente
+    // ==========================================
+
+    /**
+     * Asigna el siguiente N° de Expediente libre del año en curso
+     * (formato "NNN-YYYY"), evitando que se adivine a mano.
+     * 
+     * @return 201 Created con el N° reservado
+     */
+    @PostMapping("/siguiente-numero")
+    public ResponseEntity<NumeroExpedienteResponseDto> siguienteNumero() {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(new NumeroExpedienteResponseDto(numeracionService.siguienteNumero()));
+    }
+
     // ==========================================
     // GET - Consultar por N° de Expediente
     // ==========================================
@@ -65,18 +95,89 @@ public class ExpedienteController {
         return ResponseEntity.ok(toResponseDto(encontrado));
     }
 
+    // ==========================================
+    // POST - Consulta múltiple por N° de Expediente
+    // ==========================================
+
+    /**
+     * Busca varios expedientes en un solo viaje (una sola consulta SQL).
+     * Los N° inexistentes no generan 404: se devuelven en "no_encontrados".
+     * 
+     * @param requestDto lista validada de N° de Expediente
+     * @param fields     campos a devolver, separados por coma (opcional)
+     * @return 200 OK con los encontrados y los N° faltantes
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ExpedienteLoteResponseDto> buscarPorIds(
+            @RequestBody @Valid ExpedienteLoteRequestDto requestDto,
+            @RequestParam(required = false) List<String> fields) {
+
+        List<Expediente> encontrados = fields == null
+                ? expedienteService.buscarPorIds(requestDto.ids())
+                : expedienteService.buscarPorIds(requestDto.ids(),
+                        CampoExpediente.desdeNombres(fields));
+
+        Set<String> idsEncontrados = new HashSet<>();
+        List<ExpedienteResponseDto> respuesta = new ArrayList<>(encontrados.size());
+        for (Expediente expediente : encontrados) {
+            idsEncontrados.add(expediente.getIdExpediente());
+            respuesta.add(toResponseDto(expediente));
+        }
+
+        List<String> noEncontrados = requestDto.ids()
+                .stream()
+                .distinct()
+                .filter(id -> !idsEncontrados.contains(id))
+                .toList();
+
+        return ResponseEntity.ok(new ExpedienteLoteResponseDto(respuesta, noEncontrados));
+    }
+
     // ==========================================
     // GET - Listar todos los expedientes
     // ==========================================
 
     /**
      * Lista todos los expedientes registrados.
+     * Con "fields" (ej. ?fields=fecha_registro,tipo_documento) solo se leen
+     * y devuelven esos campos; el resto se omite del JSON (non_null).
      * 
+     * @param fields campos a devolver, separados por coma (opcional)
      * @return 200 OK con la lista de expedientes
      */
     @GetMapping
-    public ResponseEntity<List<ExpedienteResponseDto>> listarTodos() {
-        List<ExpedienteResponseDto> lista = expedienteService.listarTodos()
+    public ResponseEntity<List<ExpedienteResponseDto>> listarTodos(
+            @RequestParam(required = false) List<String> fields) {
+
+        List<Expediente> expedientes = fields == null
+                ? expedienteService.listarTodos()
+                : expedienteService.listarTodos(CampoExpediente.desdeNombres(fields));
+
+        List<ExpedienteResponseDto> lista = expedientes
+                .stream()
+                .map(this::toResponseDto)
+                .toList();
+
+        return ResponseEntity.ok(lista);
+    }
+
+    // ==========================================
+    // GET - Ubicación física (estante / caja)
+    // ==========================================
+
+    /**
+     * Lista los expedientes activos guardados en una caja.
+     * 
+     * @param estante código del estante (ej. "A-01")
+     * @param caja    número de caja
+     * @return 200 OK con el contenido de la caja
+     */
+    @GetMapping("/estantes/{estante}/cajas/{caja}")
+    public ResponseEntity<List<ExpedienteResponseDto>> buscarPorUbicacion(
+            @PathVariable String estante,
+            @PathVariable int caja) {
+
+        List<ExpedienteResponseDto> lista = expedienteService.buscarPorUbicacion(estante, caja)
                 .stream()
                 .map(this::toResponseDto)
                 .toList();
@@ -84,6 +185,37 @@ public class ExpedienteController {
         return ResponseEntity.ok(lista);
     }
 
+    /**
+     * Resume cuán lleno está un estante ("A-01") o una fila completa ("A"):
+     * expedientes y folios por caja, más los totales.
+     * 
+     * @param estante código o prefijo del estante
+     * @return 200 OK con la ocupación
+     */
+    @GetMapping("/estantes/{estante}/ocupacion")
+    public ResponseEntity<OcupacionEstanteResponseDto> ocupacionEstante(
+            @PathVariable String estante) {
+
+        // Se responde con el código consultado (en mayúsculas), no con el recibido
+        String codigo = UbicacionFisica.normalizarEstante(estante);
+
+        long totalExpedientes = 0;
+        long totalFolios = 0;
+        List<OcupacionCajaResponseDto> cajas = new ArrayList<>();
+        for (OcupacionCaja ocupacion : expedienteService.ocupacionEstante(codigo)) {
+            totalExpedientes += ocupacion.getExpedientes();
+            totalFolios += ocupacion.getFolios();
+            cajas.add(new OcupacionCajaResponseDto(
+                    ocupacion.getEstante(),
+                    ocupacion.getCaja(),
+                    ocupacion.getExpedientes(),
+                    ocupacion.getFolios()));
+        }
+
+        return ResponseEntity.ok(
+                new OcupacionEstanteResponseDto(codigo, totalExpedientes, totalFolios, cajas));
+    }
+
     // ==========================================
     // PUT - Actualizar expediente existente
     // ==========================================
@@ -162,6 +294,8 @@ public class ExpedienteController {
                 expediente.getDirigidoA(),
                 expediente.getFolios(),
                 expediente.getArchivadoCon(),
+                expediente.getEstante(),
+                expediente.getCaja(),
                 expediente.getObservaciones(),
                 expediente.getActivo());
     }
@@ -0,0 +1,203 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import com.archivo.inventario.infrastructure.config.ErrorRespuesta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Control de admisión delante de ExpedienteController.
+ * Se ejecuta antes que cualquier otro filtro de la API, por lo que una
+ * petición rechazada NUNCA llega al controlador ni al datasource.
+ *
+ * REGLAS:
+ * - Límite de tasa por cliente (token bucket) → 429 Too Many Requests.
+ *   El cliente se identifica por su IP remota. La cabecera X-Cliente-Id solo
+ *   se respeta si su valor está en "clientes-confiables": de lo contrario
+ *   cualquiera podría enviar un valor distinto en cada petición y obtener
+ *   una cubeta nueva (y llena) cada vez.
+ * - Pools de concurrencia separados: las consultas costosas (GET del
+ *   listado y de estantes) no pueden ocupar los hilos ni las conexiones
+ *   JDBC que necesitan las ligeras (buscarPorId, lote, registrar, etc.).
+ * - Las rutas se comparan con PathPattern sobre la ruta ya interpretada,
+ *   igual que al elegir el controlador: "/api/v1/expedientes;x=1" llega
+ *   al listado, así que también se clasifica como listado.
+ * - Descarte adaptativo por latencia de cola → 503 Service Unavailable.
+ * - Ambos rechazos incluyen la cabecera Retry-After.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ControlAdmisionFilter extends OncePerRequestFilter {
+
+    private static final PathPattern RUTA_API = patron("/api/v1/expedientes/**");
+    private static final PathPattern RUTA_LISTADO = patron("/api/v1/expedientes");
+    private static final PathPattern RUTA_ESTANTES = patron("/api/v1/expedientes/estantes/**");
+    private static final String CABECERA_CLIENTE = "X-Cliente-Id";
+
+    private final ObjectMapper objectMapper;
+    private final LimitadorTasa limitador;
+    private final PoolConcurrencia poolCostosas;
+    private final PoolConcurrencia poolLigeras;
+    private final Set<String> clientesConfiables;
+    private final long intervaloPurgaNanos;
+    private final AtomicLong ultimaPurga = new AtomicLong(System.nanoTime());
+
+    public ControlAdmisionFilter(
+            ObjectMapper objectMapper,
+            @Value("${inventario.admision.tasa-por-cliente:50}") double tasaPorCliente,
+            @Value("${inventario.admision.rafaga-por-cliente:100}") double rafagaPorCliente,
+            @Value("${inventario.admision.max-clientes:10000}") int maxClientes,
+            @Value("${inventario.admision.clientes-confiables:}") Set<String> clientesConfiables,
+            @Value("${inventario.admision.costosas.concurrencia:2}") int concurrenciaCostosas,
+            @Value("${inventario.admision.costosas.espera-maxima-ms:500}") long esperaCostosasMs,
+            @Value("${inventario.admision.ligeras.concurrencia:8}") int concurrenciaLigeras,
+            @Value("${inventario.admision.ligeras.espera-maxima-ms:100}") long esperaLigerasMs,
+            @Value("${inventario.admision.latencia-objetivo-ms:20}") long objetivoMs,
+            @Value("${inventario.admision.intervalo-ms:1000}") long intervaloMs) {
+
+        this.objectMapper = objectMapper;
+        this.limitador = new LimitadorTasa(tasaPorCliente, rafagaPorCliente,
+                TimeUnit.MINUTES.toMillis(5), maxClientes);
+        this.clientesConfiables = Set.copyOf(clientesConfiables);
+        this.poolCostosas = new PoolConcurrencia(concurrenciaCostosas, esperaCostosasMs, objetivoMs, intervaloMs);
+        this.poolLigeras = new PoolConcurrencia(concurrenciaLigeras, esperaLigerasMs, objetivoMs, intervaloMs);
+        this.intervaloPurgaNanos = TimeUnit.MINUTES.toNanos(1);
+    }
+
+    /**
+     * Solo se controla la API de expedientes; las peticiones preflight
+     * de CORS (OPTIONS) pasan sin consumir cupo.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod())
+                || !RUTA_API.matches(ruta(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        long ahora = System.nanoTime();
+        purgarSiCorresponde(ahora);
+
+        // Paso 1: Límite de tasa por cliente (429)
+        long esperarMs = limitador.intentar(identificarCliente(request), ahora);
+        if (esperarMs > 0) {
+            rechazar(response, HttpStatus.TOO_MANY_REQUESTS,
+                    TimeUnit.MILLISECONDS.toSeconds(esperarMs + 999),
+                    "Demasiadas solicitudes",
+                    "Se superó el límite de solicitudes por cliente. Reintente más tarde.");
+            return;
+        }
+
+        // Paso 2: Pool de concurrencia según el costo del endpoint (503)
+        PoolConcurrencia pool = esCostosa(request) ? poolCostosas : poolLigeras;
+        boolean admitida;
+        try {
+            admitida = pool.adquirir();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitida = false;
+        }
+        if (!admitida) {
+            rechazar(response, HttpStatus.SERVICE_UNAVAILABLE,
+                    pool.segundosReintento(),
+                    "Servicio saturado",
+                    "El servicio está atendiendo demasiadas solicitudes. Reintente más tarde.");
+            return;
+        }
+
+        // Paso 3: Ejecutar la petición y liberar el permiso
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            pool.liberar();
+        }
+    }
+
+    /**
+     * Endpoints que recorren muchas filas: GET del listado completo y
+     * consultas por estante/caja. POST sobre la colección (registrar) es
+     * una escritura corta y va al pool ligero, igual que "lote": como
+     * máximo 500 búsquedas por llave primaria en una sola consulta, que
+     * reemplazan a otras tantas llamadas ligeras.
+     */
+    boolean esCostosa(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        PathContainer ruta = ruta(request);
+        return RUTA_LISTADO.matches(ruta) || RUTA_ESTANTES.matches(ruta);
+    }
+
+    /**
+     * Ruta dentro de la aplicación, sin contenido tras ';' y decodificada
+     * por segmento. Se guarda en la petición para no interpretarla dos veces.
+     */
+    private static PathContainer ruta(HttpServletRequest request) {
+        if (!ServletRequestPathUtils.hasParsedRequestPath(request)) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+        return ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+    }
+
+    private static PathPattern patron(String ruta) {
+        return PathPatternParser.defaultInstance.parse(ruta);
+    }
+
+    /**
+     * IP remota, salvo que X-Cliente-Id traiga un identificador confiable.
+     * Los prefijos evitan que un identificador coincida con una IP.
+     */
+    private String identificarCliente(HttpServletRequest request) {
+        String cliente = request.getHeader(CABECERA_CLIENTE);
+        if (cliente != null && clientesConfiables.contains(cliente)) {
+            return "id:" + cliente;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void purgarSiCorresponde(long ahora) {
+        long ultima = ultimaPurga.get();
+        if (ahora - ultima >= intervaloPurgaNanos && ultimaPurga.compareAndSet(ultima, ahora)) {
+            limitador.purgarInactivas(ahora);
+        }
+    }
+
+    /**
+     * Responde con el mismo formato JSON que GlobalExceptionHandler.
+     */
+    private void rechazar(HttpServletResponse response, HttpStatus status,
+            long segundosReintento, String error, String mensaje) throws IOException {
+
+        ErrorRespuesta cuerpo = ErrorRespuesta.de(status.value(), error, mensaje);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, segundosReintento)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), cuerpo);
+    }
+}
@@ -0,0 +1,101 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de tasa por cliente con cubetas de tokens (token bucket).
+ * Cada cliente recibe "tokensPorSegundo" y puede acumular hasta
+ * "capacidad" tokens para absorber ráfagas cortas.
+ *
+ * Se guardan como máximo "maxClientes" cubetas. Si se llena y no hay
+ * clientes inactivos que purgar, los clientes nuevos comparten una única
+ * cubeta de desborde: quien rote identificadores no hace crecer la memoria
+ * ni obtiene cupo propio.
+ */
+class LimitadorTasa {
+
+    private final double tokensPorNano;
+    private final double capacidad;
+    private final long inactividadNanos;
+    private final int maxClientes;
+    private final Map<String, Cubeta> cubetas = new ConcurrentHashMap<>();
+    private final Cubeta desborde;
+
+    LimitadorTasa(double tokensPorSegundo, double capacidad, long inactividadMs, int maxClientes) {
+        this.tokensPorNano = tokensPorSegundo / TimeUnit.SECONDS.toNanos(1);
+        this.capacidad = capacidad;
+        this.inactividadNanos = TimeUnit.MILLISECONDS.toNanos(inactividadMs);
+        this.maxClientes = maxClientes;
+        this.desborde = new Cubeta(capacidad, System.nanoTime());
+    }
+
+    /**
+     * Intenta consumir un token del cliente.
+     *
+     * @return 0 si se admite; si no, los milisegundos hasta el próximo token
+     */
+    long intentar(String cliente, long ahora) {
+        Cubeta cubeta = cubetas.get(cliente);
+        if (cubeta == null) {
+            cubeta = cubetaNueva(cliente, ahora);
+        }
+        return cubeta.tomar(ahora);
+    }
+
+    int clientes() {
+        return cubetas.size();
+    }
+
+    /**
+     * El límite es aproximado: varios hilos pueden pasar la verificación
+     * a la vez y superarlo por unas pocas cubetas.
+     */
+    private Cubeta cubetaNueva(String cliente, long ahora) {
+        if (cubetas.size() >= maxClientes) {
+            purgarInactivas(ahora);
+            if (cubetas.size() >= maxClientes) {
+                return desborde;
+            }
+        }
+        return cubetas.computeIfAbsent(cliente, c -> new Cubeta(capacidad, ahora));
+    }
+
+    /**
+     * Elimina las cubetas de clientes inactivos para no crecer sin límite.
+     */
+    void purgarInactivas(long ahora) {
+        cubetas.values().removeIf(cubeta -> cubeta.inactiva(ahora));
+    }
+
+    private final class Cubeta {
+
+        private double tokens;
+        private long ultimaRecarga;
+
+        private Cubeta(double tokens, long ahora) {
+            this.tokens = tokens;
+            this.ultimaRecarga = ahora;
+        }
+
+        private synchronized long tomar(long ahora) {
+            // Un hilo puede llegar con un "ahora" anterior a la última recarga
+            if (ahora > ultimaRecarga) {
+                tokens = Math.min(capacidad, tokens + (ahora - ultimaRecarga) * tokensPorNano);
+                ultimaRecarga = ahora;
+            }
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            long faltanNanos = (long) Math.ceil((1 - tokens) / tokensPorNano);
+            return TimeUnit.NANOSECONDS.toMillis(faltanNanos) + 1;
+        }
+
+        private synchronized boolean inactiva(long ahora) {
+            return ahora - ultimaRecarga > inactividadNanos;
+        }
+    }
+}
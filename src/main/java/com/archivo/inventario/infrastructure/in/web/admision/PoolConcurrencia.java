@@ -0,0 +1,87 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de concurrencia para un grupo de endpoints, con descarte adaptativo
+ * guiado por la latencia de cola (al estilo CoDel).
+ *
+ * - Como máximo "permisos" peticiones del grupo se ejecutan a la vez.
+ * - Las demás esperan en cola hasta "esperaMaxima".
+ * - En cada intervalo se registra la MENOR espera en cola. Si incluso la
+ *   petición más afortunada esperó más que "objetivo", hay una cola
+ *   permanente: durante el siguiente intervalo las peticiones que no
+ *   obtienen permiso de inmediato se rechazan sin esperar.
+ */
+class PoolConcurrencia {
+
+    private final Semaphore permisos;
+    private final long esperaMaximaNanos;
+    private final long objetivoNanos;
+    private final long intervaloNanos;
+
+    private final AtomicLong esperaMinima = new AtomicLong(Long.MAX_VALUE);
+    private volatile long inicioIntervalo = System.nanoTime();
+    private volatile boolean sobrecargado;
+
+    PoolConcurrencia(int permisos, long esperaMaximaMs, long objetivoMs, long intervaloMs) {
+        this.permisos = new Semaphore(permisos, true);
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        this.objetivoNanos = TimeUnit.MILLISECONDS.toNanos(objetivoMs);
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+    }
+
+    /**
+     * Intenta obtener un permiso de ejecución.
+     *
+     * @return true si la petición puede continuar (luego llamar a liberar())
+     */
+    boolean adquirir() throws InterruptedException {
+        if (permisos.tryAcquire()) {
+            registrarEspera(0);
+            return true;
+        }
+        if (sobrecargado) {
+            // No se registra espera: el intervalo sigue sobrecargado
+            // hasta que alguna petición obtenga permiso sin esperar.
+            cerrarIntervaloSiVencio();
+            return false;
+        }
+
+        long inicio = System.nanoTime();
+        boolean admitida = permisos.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS);
+        registrarEspera(admitida ? System.nanoTime() - inicio : esperaMaximaNanos);
+        return admitida;
+    }
+
+    void liberar() {
+        permisos.release();
+    }
+
+    /** Segundos sugeridos para reintentar (cabecera Retry-After). */
+    long segundosReintento() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(intervaloNanos));
+    }
+
+    private void registrarEspera(long esperaNanos) {
+        esperaMinima.accumulateAndGet(esperaNanos, Math::min);
+        cerrarIntervaloSiVencio();
+    }
+
+    private void cerrarIntervaloSiVencio() {
+        if (System.nanoTime() - inicioIntervalo >= intervaloNanos) {
+            cerrarIntervalo();
+        }
+    }
+
+    private synchronized void cerrarIntervalo() {
+        long ahora = System.nanoTime();
+        if (ahora - inicioIntervalo < intervaloNanos) {
+            return;
+        }
+        sobrecargado = esperaMinima.getAndSet(Long.MAX_VALUE) > objetivoNanos;
+        inicioIntervalo = ahora;
+    }
+}
@@ -0,0 +1,19 @@
+package com.archivo.inventario.infrastructure.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de entrada (Request) para consultar varios expedientes a la vez.
+ * Usa Java Record (inmutable) con validaciones Jakarta.
+ *
+ * REGLAS DE VALIDACIÓN:
+ * - ids: Obligatorio, entre 1 y 500 N° de Expediente no vacíos.
+ */
+public record ExpedienteLoteRequestDto(
+
+        @NotEmpty(message = "Debe enviar al menos un N° de Expediente") @Size(max = 500, message = "No se pueden consultar más de 500 expedientes a la vez") List<@NotBlank(message = "El N° de Expediente no puede estar vacío") String> ids) {
+}
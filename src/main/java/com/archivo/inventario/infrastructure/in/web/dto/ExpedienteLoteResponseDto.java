@@ -0,0 +1,13 @@
+package com.archivo.inventario.infrastructure.in.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de salida (Response) de la consulta múltiple.
+ * Usa Java Record (inmutable). En lugar de un 404 por cada N° inexistente,
+ * devuelve los expedientes encontrados y la lista de N° no encontrados.
+ */
+public record ExpedienteLoteResponseDto(
+        List<ExpedienteResponseDto> encontrados,
+        List<String> noEncontrados) {
+}
@@ -17,6 +17,8 @@ public record ExpedienteResponseDto(
         String dirigidoA,
         Integer folios,
         String archivadoCon,
+        String estante,
+        Integer caja,
         String observaciones,
         Boolean activo) {
 }
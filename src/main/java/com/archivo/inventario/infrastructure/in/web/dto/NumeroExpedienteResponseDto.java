@@ -0,0 +1,8 @@
+package com.archivo.inventario.infrastructure.in.web.dto;
+
+/**
+ * DTO de salida (Response) con un N° de Expediente recién asignado.
+ * Usa Java Record (inmutable).
+ */
+public record NumeroExpedienteResponseDto(String idExpediente) {
+}
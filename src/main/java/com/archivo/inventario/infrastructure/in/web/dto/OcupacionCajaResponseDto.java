@@ -0,0 +1,12 @@
+package com.archivo.inventario.infrastructure.in.web.dto;
+
+/**
+ * DTO de salida (Response) con la ocupación de una caja.
+ * Usa Java Record (inmutable).
+ */
+public record OcupacionCajaResponseDto(
+        String estante,
+        Integer caja,
+        long expedientes,
+        long folios) {
+}
@@ -0,0 +1,15 @@
+package com.archivo.inventario.infrastructure.in.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de salida (Response) con la ocupación de un estante o fila:
+ * totales de expedientes y folios, y el detalle por caja.
+ * Usa Java Record (inmutable).
+ */
+public record OcupacionEstanteResponseDto(
+        String estante,
+        long totalExpedientes,
+        long totalFolios,
+        List<OcupacionCajaResponseDto> cajas) {
+}
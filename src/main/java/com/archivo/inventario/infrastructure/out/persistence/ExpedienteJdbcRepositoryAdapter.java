@@ -0,0 +1,252 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import com.archivo.inventario.domain.model.CampoExpediente;
+import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistencia alternativo (Driven Adapter) sin Hibernate.
+ * Implementa el puerto del dominio con JdbcClient y SQL escrito a mano,
+ * mapeando cada fila directamente a Expediente (sin contexto de persistencia,
+ * sin dirty checking y sin el SELECT previo que hace merge()).
+ *
+ * Se activa con el perfil "jdbc" (spring.profiles.active=jdbc).
+ * Las sentencias son constantes para que el driver de PostgreSQL
+ * reutilice los prepared statements del lado del servidor.
+ */
+@Component
+@Profile("jdbc")
+@RequiredArgsConstructor
+public class ExpedienteJdbcRepositoryAdapter implements ExpedienteRepositoryPort {
+
+    private static final String COLUMNAS = """
+            id_expediente, fecha_registro, tipo_documento, num_documento,
+            nombre_solicitante, dni_solicitante, asunto, dirigido_a,
+            folios, archivado_con, estante, caja, observaciones, activo""";
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO expedientes (%s)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id_expediente) DO UPDATE SET
+                fecha_registro     = EXCLUDED.fecha_registro,
+                tipo_documento     = EXCLUDED.tipo_documento,
+                num_documento      = EXCLUDED.num_documento,
+                nombre_solicitante = EXCLUDED.nombre_solicitante,
+                dni_solicitante    = EXCLUDED.dni_solicitante,
+                asunto             = EXCLUDED.asunto,
+                dirigido_a         = EXCLUDED.dirigido_a,
+                folios             = EXCLUDED.folios,
+                archivado_con      = EXCLUDED.archivado_con,
+                estante            = EXCLUDED.estante,
+                caja               = EXCLUDED.caja,
+                observaciones      = EXCLUDED.observaciones,
+                activo             = EXCLUDED.activo""".formatted(COLUMNAS);
+
+    private static final String SQL_FIND_BY_ID =
+            "SELECT " + COLUMNAS + " FROM expedientes WHERE id_expediente = ?";
+
+    private static final String SQL_FIND_ALL =
+            "SELECT " + COLUMNAS + " FROM expedientes";
+
+    private static final String SQL_FIND_ALL_BY_ID =
+            "SELECT " + COLUMNAS + " FROM expedientes WHERE id_expediente = ANY(?)";
+
+    private static final String SQL_FIND_BY_UBICACION =
+            "SELECT " + COLUMNAS + " FROM expedientes"
+                    + " WHERE estante = ? AND caja = ? AND activo = TRUE";
+
+    private static final String SQL_OCUPACION_ESTANTE = """
+            SELECT estante, caja, COUNT(*) AS expedientes, COALESCE(SUM(folios), 0) AS folios
+            FROM expedientes
+            WHERE (estante = ? OR (estante >= ? AND estante < ?))
+              AND caja IS NOT NULL
+              AND activo = TRUE
+            GROUP BY estante, caja
+            ORDER BY estante, caja""";
+
+    private static final String SQL_EXISTS_BY_ID =
+            "SELECT EXISTS (SELECT 1 FROM expedientes WHERE id_expediente = ?)";
+
+    /** Columna de la tabla "expedientes" para cada campo proyectable. */
+    private static final Map<CampoExpediente, String> COLUMNAS_POR_CAMPO = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoExpediente.ID_EXPEDIENTE, "id_expediente"),
+            Map.entry(CampoExpediente.FECHA_REGISTRO, "fecha_registro"),
+            Map.entry(CampoExpediente.TIPO_DOCUMENTO, "tipo_documento"),
+            Map.entry(CampoExpediente.NUM_DOCUMENTO, "num_documento"),
+            Map.entry(CampoExpediente.NOMBRE_SOLICITANTE, "nombre_solicitante"),
+            Map.entry(CampoExpediente.DNI_SOLICITANTE, "dni_solicitante"),
+            Map.entry(CampoExpediente.ASUNTO, "asunto"),
+            Map.entry(CampoExpediente.DIRIGIDO_A, "dirigido_a"),
+            Map.entry(CampoExpediente.FOLIOS, "folios"),
+            Map.entry(CampoExpediente.ARCHIVADO_CON, "archivado_con"),
+            Map.entry(CampoExpediente.ESTANTE, "estante"),
+            Map.entry(CampoExpediente.CAJA, "caja"),
+            Map.entry(CampoExpediente.OBSERVACIONES, "observaciones"),
+            Map.entry(CampoExpediente.ACTIVO, "activo")));
+
+    /** Mapeo fila → dominio, sin objetos intermedios. */
+    private static final RowMapper<Expediente> ROW_MAPPER = (rs, rowNum) -> {
+        Date fecha = rs.getDate("fecha_registro");
+        return Expediente.builder()
+                .idExpediente(rs.getString("id_expediente"))
+                .fechaRegistro(fecha != null ? fecha.toLocalDate() : null)
+                .tipoDocumento(rs.getString("tipo_documento"))
+                .numDocumento(rs.getString("num_documento"))
+                .nombreSolicitante(rs.getString("nombre_solicitante"))
+                .dniSolicitante(rs.getString("dni_solicitante"))
+                .asunto(rs.getString("asunto"))
+                .dirigidoA(rs.getString("dirigido_a"))
+                .folios(rs.getObject("folios", Integer.class))
+                .archivadoCon(rs.getString("archivado_con"))
+                .estante(rs.getString("estante"))
+                .caja(rs.getObject("caja", Integer.class))
+                .observaciones(rs.getString("observaciones"))
+                .activo(rs.getObject("activo", Boolean.class))
+                .build();
+    };
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public Expediente save(Expediente expediente) {
+        jdbcClient.sql(SQL_UPSERT)
+                .params(expediente.getIdExpediente(),
+                        expediente.getFechaRegistro() != null
+                                ? Date.valueOf(expediente.getFechaRegistro())
+                                : null,
+                        expediente.getTipoDocumento(),
+                        expediente.getNumDocumento(),
+                        expediente.getNombreSolicitante(),
+                        expediente.getDniSolicitante(),
+                        expediente.getAsunto(),
+                        expediente.getDirigidoA(),
+                        expediente.getFolios(),
+                        expediente.getArchivadoCon(),
+                        expediente.getEstante(),
+                        expediente.getCaja(),
+                        expediente.getObservaciones(),
+                        expediente.getActivo())
+                .update();
+        return expediente;
+    }
+
+    @Override
+    public Optional<Expediente> findById(String idExpediente) {
+        return jdbcClient.sql(SQL_FIND_BY_ID)
+                .param(idExpediente)
+                .query(ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<Expediente> findAll() {
+        return jdbcClient.sql(SQL_FIND_ALL)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    /**
+     * Un único parámetro de tipo arreglo (= ANY(?)) en lugar de IN (?, ?, ...):
+     * el texto SQL no cambia con la cantidad de N°, así que el
+     * prepared statement se reutiliza para cualquier tamaño de lote.
+     */
+    @Override
+    public List<Expediente> findAllById(Collection<String> idsExpediente) {
+        if (idsExpediente.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(SQL_FIND_ALL_BY_ID)
+                .param(idsExpediente.toArray(String[]::new))
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<Expediente> findAll(Set<CampoExpediente> campos) {
+        return jdbcClient.sql("SELECT " + columnas(campos) + " FROM expedientes")
+                .query(proyeccion(campos))
+                .list();
+    }
+
+    @Override
+    public List<Expediente> findAllById(Collection<String> idsExpediente,
+            Set<CampoExpediente> campos) {
+        if (idsExpediente.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT " + columnas(campos)
+                        + " FROM expedientes WHERE id_expediente = ANY(?)")
+                .param(idsExpediente.toArray(String[]::new))
+                .query(proyeccion(campos))
+                .list();
+    }
+
+    @Override
+    public List<Expediente> findByUbicacion(String estante, int caja) {
+        return jdbcClient.sql(SQL_FIND_BY_UBICACION)
+                .params(estante, caja)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<OcupacionCaja> findOcupacionEstante(String estante) {
+        return jdbcClient.sql(SQL_OCUPACION_ESTANTE)
+                // Fila "A": de "A-" (incluido) a "A." (excluido); '.' sigue a '-' en ASCII
+                .params(estante, estante + "-", estante + ".")
+                .query((rs, rowNum) -> new OcupacionCaja(
+                        rs.getString("estante"),
+                        rs.getInt("caja"),
+                        rs.getLong("expedientes"),
+                        rs.getLong("folios")))
+                .list();
+    }
+
+    @Override
+    public boolean existsById(String idExpediente) {
+        return Boolean.TRUE.equals(jdbcClient.sql(SQL_EXISTS_BY_ID)
+                .param(idExpediente)
+                .query(Boolean.class)
+                .single());
+    }
+
+    // ==========================================
+    // PROYECCIONES (solo las columnas solicitadas)
+    // ==========================================
+
+    /**
+     * Lista de columnas del SELECT, tomada de COLUMNAS_POR_CAMPO.
+     * El texto SQL resultante depende solo del conjunto de campos, por lo que
+     * también se reutiliza como prepared statement.
+     */
+    private static String columnas(Set<CampoExpediente> campos) {
+        return campos.stream()
+                .map(COLUMNAS_POR_CAMPO::get)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static RowMapper<Expediente> proyeccion(Set<CampoExpediente> campos) {
+        return (rs, rowNum) -> {
+            Expediente expediente = new Expediente();
+            for (CampoExpediente campo : campos) {
+                campo.asignar(expediente, rs.getObject(COLUMNAS_POR_CAMPO.get(campo), campo.getTipo()));
+            }
+            return expediente;
+        };
+    }
+}
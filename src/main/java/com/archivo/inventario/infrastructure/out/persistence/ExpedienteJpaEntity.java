@@ -61,6 +61,12 @@ public class ExpedienteJpaEntity {
     @Column(name = "archivado_con", length = 200)
     private String archivadoCon;
 
+    @Column(name = "estante", columnDefinition = "VARCHAR(20) COLLATE \"C\"")
+    private String estante;
+
+    @Column(name = "caja")
+    private Integer caja;
+
     @Column(name = "observaciones", columnDefinition = "TEXT")
     private String observaciones;
 
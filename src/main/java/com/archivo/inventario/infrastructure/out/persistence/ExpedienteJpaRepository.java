@@ -1,12 +1,51 @@
 package com.archivo.inventario.infrastructure.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repositorio JPA para la entidad ExpedienteJpaEntity.
  * La llave primaria es String (N° de Expediente).
  */
 @Repository
 public interface ExpedienteJpaRepository extends JpaRepository<ExpedienteJpaEntity, String> {
+
+    /**
+     * Consulta múltiple por N° con un único parámetro de tipo arreglo.
+     * A diferencia de findAllById (IN con un marcador por N°), el texto SQL
+     * no cambia con el tamaño del lote y el prepared statement se reutiliza.
+     */
+    @Query(value = "SELECT * FROM expedientes WHERE id_expediente = ANY(CAST(:ids AS varchar[]))",
+            nativeQuery = true)
+    List<ExpedienteJpaEntity> buscarPorIds(@Param("ids") String[] ids);
+
+    /**
+     * Expedientes activos de una caja (usa idx_expedientes_ubicacion).
+     */
+    List<ExpedienteJpaEntity> findByEstanteAndCajaAndActivoTrue(String estante, Integer caja);
+
+    /**
+     * Ocupación por caja de un estante ("A-01") o de toda una fila ("A").
+     * La fila se busca como rango [desde, hasta) y no con LIKE, para que
+     * el código recibido nunca se interprete como patrón.
+     * Ambas condiciones son rangos sobre idx_expedientes_ubicacion.
+     */
+    @Query("""
+            SELECT e.estante AS estante,
+                   e.caja AS caja,
+                   COUNT(e) AS expedientes,
+                   COALESCE(SUM(e.folios), 0) AS folios
+            FROM ExpedienteJpaEntity e
+            WHERE (e.estante = :estante OR (e.estante >= :desde AND e.estante < :hasta))
+              AND e.caja IS NOT NULL
+              AND e.activo = true
+            GROUP BY e.estante, e.caja
+            ORDER BY e.estante, e.caja""")
+    List<OcupacionCajaProjection> ocupacionPorEstante(@Param("estante") String estante,
+            @Param("desde") String desde,
+            @Param("hasta") String hasta);
 }
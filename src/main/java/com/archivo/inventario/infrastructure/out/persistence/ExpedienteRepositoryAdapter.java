@@ -1,24 +1,56 @@
 package com.archivo.inventario.infrastructure.out.persistence;
 
+import com.archivo.inventario.domain.model.CampoExpediente;
 import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
 import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador de persistencia (Driven Adapter).
  * Implementa el puerto del dominio usando Spring Data JPA.
  * Traduce entre la entidad de dominio (Expediente) y la entidad JPA
  * (ExpedienteJpaEntity).
+ *
+ * Es el adaptador por defecto; con el perfil "jdbc" se reemplaza por
+ * ExpedienteJdbcRepositoryAdapter.
  */
 @Component
+@Profile("!jdbc")
 @RequiredArgsConstructor
 public class ExpedienteRepositoryAdapter implements ExpedienteRepositoryPort {
 
+    /** Columna de la tabla "expedientes" para cada campo proyectable. */
+    private static final Map<CampoExpediente, String> COLUMNAS_POR_CAMPO = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoExpediente.ID_EXPEDIENTE, "id_expediente"),
+            Map.entry(CampoExpediente.FECHA_REGISTRO, "fecha_registro"),
+            Map.entry(CampoExpediente.TIPO_DOCUMENTO, "tipo_documento"),
+            Map.entry(CampoExpediente.NUM_DOCUMENTO, "num_documento"),
+            Map.entry(CampoExpediente.NOMBRE_SOLICITANTE, "nombre_solicitante"),
+            Map.entry(CampoExpediente.DNI_SOLICITANTE, "dni_solicitante"),
+            Map.entry(CampoExpediente.ASUNTO, "asunto"),
+            Map.entry(CampoExpediente.DIRIGIDO_A, "dirigido_a"),
+            Map.entry(CampoExpediente.FOLIOS, "folios"),
+            Map.entry(CampoExpediente.ARCHIVADO_CON, "archivado_con"),
+            Map.entry(CampoExpediente.ESTANTE, "estante"),
+            Map.entry(CampoExpediente.CAJA, "caja"),
+            Map.entry(CampoExpediente.OBSERVACIONES, "observaciones"),
+            Map.entry(CampoExpediente.ACTIVO, "activo")));
+
     private final ExpedienteJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Expediente save(Expediente expediente) {
@@ -41,11 +73,101 @@ public class ExpedienteRepositoryAdapter implements ExpedienteRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Expediente> findAllById(Collection<String> idsExpediente) {
+        if (idsExpediente.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.buscarPorIds(idsExpediente.toArray(String[]::new))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Expediente> findAll(Set<CampoExpediente> campos) {
+        return proyectar(campos, null);
+    }
+
+    @Override
+    public List<Expediente> findAllById(Collection<String> idsExpediente,
+            Set<CampoExpediente> campos) {
+        if (idsExpediente.isEmpty()) {
+            return List.of();
+        }
+        return proyectar(campos, idsExpediente);
+    }
+
+    @Override
+    public List<Expediente> findByUbicacion(String estante, int caja) {
+        return jpaRepository.findByEstanteAndCajaAndActivoTrue(estante, caja)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<OcupacionCaja> findOcupacionEstante(String estante) {
+        // Fila "A": de "A-" (incluido) a "A." (excluido); '.' sigue a '-' en ASCII
+        return jpaRepository.ocupacionPorEstante(estante, estante + "-", estante + ".")
+                .stream()
+                .map(fila -> new OcupacionCaja(
+                        fila.getEstante(),
+                        fila.getCaja(),
+                        fila.getExpedientes(),
+                        fila.getFolios()))
+                .toList();
+    }
+
     @Override
     public boolean existsById(String idExpediente) {
         return jpaRepository.existsById(idExpediente);
     }
 
+    // ==========================================
+    // PROYECCIONES (solo las columnas solicitadas)
+    // ==========================================
+
+    /**
+     * Ejecuta una consulta nativa que selecciona únicamente los campos pedidos,
+     * de modo que Hibernate no lee las columnas omitidas ni gestiona entidades.
+     * El filtro por N° es un único parámetro de tipo arreglo, como en
+     * buscarPorIds: el texto SQL depende solo del conjunto de campos y no
+     * del tamaño del lote.
+     *
+     * @param idsExpediente N° a filtrar, o null para leer todos
+     */
+    @SuppressWarnings("unchecked")
+    private List<Expediente> proyectar(Set<CampoExpediente> campos,
+            Collection<String> idsExpediente) {
+
+        List<CampoExpediente> orden = List.copyOf(campos);
+        String sql = "SELECT " + orden.stream()
+                .map(COLUMNAS_POR_CAMPO::get)
+                .collect(Collectors.joining(", ")) + " FROM expedientes";
+        if (idsExpediente != null) {
+            sql += " WHERE id_expediente = ANY(CAST(:ids AS varchar[]))";
+        }
+
+        NativeQuery<Expediente> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class);
+        // Tipo Java de cada columna (LocalDate, Integer...), igual que en la entidad
+        orden.forEach(campo -> query.addScalar(COLUMNAS_POR_CAMPO.get(campo), campo.getTipo()));
+        if (idsExpediente != null) {
+            query.setParameter("ids", idsExpediente.toArray(String[]::new));
+        }
+
+        return query
+                .setTupleTransformer((tupla, alias) -> {
+                    Expediente expediente = new Expediente();
+                    for (int i = 0; i < orden.size(); i++) {
+                        orden.get(i).asignar(expediente, tupla[i]);
+                    }
+                    return expediente;
+                })
+                .getResultList();
+    }
+
     // ==========================================
     // MÉTODOS DE MAPEO (Dominio <-> JPA Entity)
     // ==========================================
@@ -65,6 +187,8 @@ public class ExpedienteRepositoryAdapter implements ExpedienteRepositoryPort {
                 .dirigidoA(entity.getDirigidoA())
                 .folios(entity.getFolios())
                 .archivadoCon(entity.getArchivadoCon())
+                .estante(entity.getEstante())
+                .caja(entity.getCaja())
                 .observaciones(entity.getObservaciones())
                 .activo(entity.getActivo())
                 .build();
@@ -85,6 +209,8 @@ public class ExpedienteRepositoryAdapter implements ExpedienteRepositoryPort {
                 .dirigidoA(domain.getDirigidoA())
                 .folios(domain.getFolios())
                 .archivadoCon(domain.getArchivadoCon())
+                .estante(domain.getEstante())
+                .caja(domain.getCaja())
                 .observaciones(domain.getObservaciones())
                 .activo(domain.getActivo())
                 .build();
@@ -0,0 +1,32 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad JPA mapeada a la tabla "expediente_secuencias".
+ * SecuenciaExpedienteRepositoryAdapter la usa solo con SQL (UPDATE ... RETURNING);
+ * la entidad existe para que en el perfil por defecto (ddl-auto=update,
+ * sin Flyway) Hibernate cree la tabla también en bases ya existentes.
+ */
+@Entity
+@Table(name = "expediente_secuencias")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExpedienteSecuenciaJpaEntity {
+
+    /** Año de la numeración (parte YYYY del N° de Expediente) */
+    @Id
+    @Column(name = "anio", nullable = false)
+    private Integer anio;
+
+    /** Último número ya reservado por algún nodo */
+    @Column(name = "ultimo_numero", nullable = false)
+    private Long ultimoNumero;
+}
@@ -0,0 +1,16 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+/**
+ * Proyección de interfaz (Spring Data) para el resumen de ocupación
+ * por caja. Los getters coinciden con los alias de la consulta JPQL.
+ */
+public interface OcupacionCajaProjection {
+
+    String getEstante();
+
+    Integer getCaja();
+
+    Long getExpedientes();
+
+    Long getFolios();
+}
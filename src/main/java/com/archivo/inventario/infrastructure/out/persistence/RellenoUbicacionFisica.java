@@ -0,0 +1,72 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import com.archivo.inventario.domain.model.UbicacionFisica;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Relleno de estante y caja cuando el esquema no lo gestiona Flyway
+ * (perfil por defecto, ddl-auto=update).
+ *
+ * Hibernate agrega las columnas a una base existente pero no las llena;
+ * la migración V3 solo corre con Flyway. Sin este relleno, los registros
+ * anteriores no aparecen en las consultas por caja ni por estante.
+ * Usa UbicacionFisica, igual que registrar y actualizar.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "false")
+@RequiredArgsConstructor
+public class RellenoUbicacionFisica {
+
+    private static final String SQL_PENDIENTES = """
+            SELECT id_expediente, archivado_con
+            FROM expedientes
+            WHERE estante IS NULL AND caja IS NULL AND archivado_con IS NOT NULL""";
+
+    private static final String SQL_ACTUALIZAR =
+            "UPDATE expedientes SET estante = ?, caja = ? WHERE id_expediente = ?";
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Procesa solo los registros sin ubicación; en los arranques siguientes
+     * vuelve a leer únicamente los que no tienen estante ni caja reconocibles.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rellenar() {
+        try {
+            List<Pendiente> pendientes = jdbcClient.sql(SQL_PENDIENTES)
+                    .query((rs, rowNum) -> new Pendiente(rs.getString(1), rs.getString(2)))
+                    .list();
+
+            int actualizados = 0;
+            for (Pendiente pendiente : pendientes) {
+                UbicacionFisica ubicacion = UbicacionFisica.desde(pendiente.archivadoCon());
+                if (ubicacion.getEstante() == null && ubicacion.getCaja() == null) {
+                    continue;
+                }
+                actualizados += jdbcClient.sql(SQL_ACTUALIZAR)
+                        .params(ubicacion.getEstante(), ubicacion.getCaja(), pendiente.idExpediente())
+                        .update();
+            }
+
+            if (actualizados > 0) {
+                log.info("Ubicación física rellenada en {} expedientes", actualizados);
+            }
+        } catch (RuntimeException e) {
+            // Se reintenta en el próximo arranque; no impide atender peticiones
+            log.warn("No se pudo rellenar la ubicación física: {}", e.getMessage());
+        }
+    }
+
+    private record Pendiente(String idExpediente, String archivadoCon) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import com.archivo.inventario.domain.port.SecuenciaExpedienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia (Driven Adapter) del contador por año.
+ * Usa la tabla "expediente_secuencias" con un UPDATE ... RETURNING,
+ * que bloquea la fila del año solo durante la reserva del bloque;
+ * así dos nodos nunca reciben el mismo rango.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecuenciaExpedienteRepositoryAdapter implements SecuenciaExpedienteRepositoryPort {
+
+    /** Crea el contador del año partiendo del mayor N° "NNN-YYYY" existente. */
+    private static final String SQL_INICIALIZAR = """
+            INSERT INTO expediente_secuencias (anio, ultimo_numero)
+            SELECT ?, COALESCE(MAX(CAST(split_part(id_expediente, '-', 1) AS BIGINT)), 0)
+            FROM expedientes
+            WHERE id_expediente ~ ('^[0-9]+-' || ? || '$')
+            ON CONFLICT (anio) DO NOTHING""";
+
+    private static final String SQL_RESERVAR = """
+            UPDATE expediente_secuencias
+            SET ultimo_numero = ultimo_numero + ?
+            WHERE anio = ?
+            RETURNING ultimo_numero""";
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Se ejecuta en su propia transacción: el bloque queda reservado
+     * aunque la transacción que lo pidió haga rollback (huecos tolerados).
+     *
+     * El caso habitual es un solo UPDATE ... RETURNING. Solo la primera
+     * reserva del año (sin fila en expediente_secuencias) inicializa el
+     * contador, lo que recorre los expedientes del año una única vez.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reservarBloque(int anio, int tamanio) {
+
+        Optional<Long> ultimo = reservar(anio, tamanio);
+        if (ultimo.isPresent()) {
+            return ultimo.get();
+        }
+
+        jdbcClient.sql(SQL_INICIALIZAR)
+                .params(anio, String.valueOf(anio))
+                .update();
+
+        return reservar(anio, tamanio).orElseThrow();
+    }
+
+    private Optional<Long> reservar(int anio, int tamanio) {
+        return jdbcClient.sql(SQL_RESERVAR)
+                .params(tamanio, anio)
+                .query(Long.class)
+                .optional();
+    }
+}
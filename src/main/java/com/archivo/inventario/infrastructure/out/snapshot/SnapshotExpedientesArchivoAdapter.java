@@ -0,0 +1,142 @@
+package com.archivo.inventario.infrastructure.out.snapshot;
+
+import com.archivo.inventario.domain.port.SnapshotExpedientesPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptador (Driven Adapter) que guarda la instantánea en un archivo
+ * binario local.
+ *
+ * FORMATO:
+ * - int  MAGICO ("EXPS")
+ * - int  VERSION
+ * - int  cantidad de N°
+ * - por cada N°: byte longitud + bytes UTF-8 (el N° tiene máximo 20 caracteres)
+ *
+ * Se escribe en un archivo temporal y luego se reemplaza el definitivo,
+ * para que un corte a mitad de escritura no deje una instantánea corrupta.
+ * Se usan flujos comunes y no archivos mapeados en memoria: en Windows un
+ * mapeo sigue bloqueando el archivo hasta que el GC lo libera, y el
+ * reemplazo del definitivo fallaría.
+ */
+@Slf4j
+@Component
+public class SnapshotExpedientesArchivoAdapter implements SnapshotExpedientesPort {
+
+    private static final int MAGICO = 0x45585053;
+    private static final int VERSION = 1;
+    private static final int CABECERA = 3 * Integer.BYTES;
+
+    private final Path archivo;
+
+    public SnapshotExpedientesArchivoAdapter(
+            @Value("${inventario.cache.snapshot.archivo}") String archivo) {
+        this.archivo = Path.of(archivo);
+    }
+
+    @Override
+    public void guardar(List<String> idsExpediente) {
+        List<byte[]> ids = new ArrayList<>(idsExpediente.size());
+        for (String id : idsExpediente) {
+            byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length <= Byte.MAX_VALUE) {
+                ids.add(bytes);
+            }
+        }
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try {
+            if (archivo.getParent() != null) {
+                Files.createDirectories(archivo.getParent());
+            }
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+                DataOutputStream salida = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(canal)));
+                salida.writeInt(MAGICO);
+                salida.writeInt(VERSION);
+                salida.writeInt(ids.size());
+                for (byte[] id : ids) {
+                    salida.writeByte(id.length);
+                    salida.write(id);
+                }
+                salida.flush();
+                canal.force(true);
+            }
+            reemplazar(temporal);
+        } catch (IOException e) {
+            log.warn("No se pudo guardar la instantánea de expedientes en {}: {}", archivo, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> cargar() {
+        if (!Files.isRegularFile(archivo)) {
+            return List.of();
+        }
+
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(archivo)))) {
+
+            long restantes = Files.size(archivo) - CABECERA;
+            if (restantes < 0) {
+                return List.of();
+            }
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSION) {
+                log.warn("Instantánea de expedientes {} con formato desconocido; se ignora", archivo);
+                return List.of();
+            }
+
+            // La cantidad viene del archivo: cada N° ocupa al menos un byte,
+            // así que nunca se reserva más de lo que el archivo puede contener
+            int cantidad = (int) Math.min(Math.max(entrada.readInt(), 0), restantes);
+            List<String> ids = new ArrayList<>(cantidad);
+            byte[] bytes = new byte[Byte.MAX_VALUE];
+            try {
+                for (int i = 0; i < cantidad; i++) {
+                    int longitud = entrada.readByte();
+                    if (longitud < 0) {
+                        break;
+                    }
+                    entrada.readFully(bytes, 0, longitud);
+                    ids.add(new String(bytes, 0, longitud, StandardCharsets.UTF_8));
+                }
+            } catch (EOFException e) {
+                // Archivo truncado: se usan los N° leídos completos
+                log.warn("Instantánea de expedientes {} incompleta ({} N° leídos)", archivo, ids.size());
+            }
+            return ids;
+        } catch (IOException e) {
+            log.warn("No se pudo leer la instantánea de expedientes {}: {}", archivo, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void reemplazar(Path temporal) throws IOException {
+        try {
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+-- =====================================================
+-- MIGRACIÓN V1: Tabla "expedientes"
+-- Derivada de schema.sql (sin datos de prueba)
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS expedientes (
+    id_expediente       VARCHAR(20)     PRIMARY KEY,
+    fecha_registro      DATE            NOT NULL,
+    tipo_documento      VARCHAR(100)    NOT NULL,
+    num_documento       VARCHAR(50)     NOT NULL,
+    nombre_solicitante  VARCHAR(200)    NOT NULL,
+    dni_solicitante     VARCHAR(8)      NOT NULL,
+    asunto              TEXT            NOT NULL,
+    dirigido_a          VARCHAR(200)    NOT NULL,
+    folios              INTEGER         NOT NULL CHECK (folios >= 1),
+    archivado_con       VARCHAR(200),
+    observaciones       TEXT,
+    activo              BOOLEAN         NOT NULL DEFAULT TRUE
+);
+
+CREATE INDEX IF NOT EXISTS idx_expedientes_dni
+    ON expedientes (dni_solicitante);
+
+CREATE INDEX IF NOT EXISTS idx_expedientes_activo
+    ON expedientes (activo);
+
+CREATE INDEX IF NOT EXISTS idx_expedientes_fecha
+    ON expedientes (fecha_registro);
+
+COMMENT ON TABLE expedientes IS 'Inventario Archivístico - Modelo plano para Archivo Central';
+COMMENT ON COLUMN expedientes.id_expediente IS 'Llave primaria natural: N° de Expediente (ej. 003-2022)';
+COMMENT ON COLUMN expedientes.activo IS 'Soft Delete: false = eliminado lógicamente';
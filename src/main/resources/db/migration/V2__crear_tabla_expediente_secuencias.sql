@@ -0,0 +1,11 @@
+-- =====================================================
+-- MIGRACIÓN V2: Contador por año para la numeración "NNN-YYYY"
+-- Derivada de schema.sql
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS expediente_secuencias (
+    anio            INTEGER         PRIMARY KEY,
+    ultimo_numero   BIGINT          NOT NULL
+);
+
+COMMENT ON TABLE expediente_secuencias IS 'Contador por año para asignar el siguiente N° de Expediente';
@@ -0,0 +1,26 @@
+-- =====================================================
+-- MIGRACIÓN V3: Ubicación física estructurada
+-- Extrae estante y caja del texto libre "archivado_con"
+-- (ej. "Estante A-01, Caja 12") para consultar por índice.
+-- Las expresiones deben coincidir con UbicacionFisica.java
+-- =====================================================
+
+-- COLLATE "C": orden por bytes, para buscar una fila de estantes ("A")
+-- como el rango estante >= 'A-' AND estante < 'A.' sobre el índice
+ALTER TABLE expedientes ADD COLUMN IF NOT EXISTS estante VARCHAR(20) COLLATE "C";
+ALTER TABLE expedientes ADD COLUMN IF NOT EXISTS caja    INTEGER;
+
+-- Relleno de los registros existentes
+UPDATE expedientes
+SET estante = upper(substring(archivado_con FROM '(?i)estante\s+([A-Za-z0-9-]{1,20})(?![A-Za-z0-9-])')),
+    caja    = CAST(substring(archivado_con FROM '(?i)caja\s+([0-9]{1,9})(?![0-9])') AS INTEGER)
+WHERE archivado_con IS NOT NULL;
+
+-- Sirve para estante = 'A-01' y para el rango de una fila completa.
+-- INCLUDE permite sumar folios con un index-only scan.
+CREATE INDEX IF NOT EXISTS idx_expedientes_ubicacion
+    ON expedientes (estante, caja)
+    INCLUDE (folios, activo);
+
+COMMENT ON COLUMN expedientes.estante IS 'Estante extraído de archivado_con (ej. A-01)';
+COMMENT ON COLUMN expedientes.caja IS 'Caja extraída de archivado_con (ej. 12)';
@@ -4,6 +4,9 @@
 -- Sistema: Inventario Archivístico - Archivo Central
 -- =====================================================
 
+-- NOTA: el perfil "prod" no usa este script; aplica las migraciones
+-- versionadas de db/migration (Flyway). Mantener ambos sincronizados.
+
 -- Crear la base de datos (ejecutar por separado si no existe)
 -- CREATE DATABASE inventario_archivo;
 
@@ -41,6 +44,10 @@ CREATE TABLE IF NOT EXISTS expedientes (
     -- Ubicación o referencia de archivado
     archivado_con   VARCHAR(200),
 
+    -- Estante y caja extraídos de archivado_con (ej. "A-01", 12)
+    estante         VARCHAR(20) COLLATE "C",
+    caja            INTEGER,
+
     -- Observaciones adicionales
     observaciones   TEXT,
 
@@ -48,6 +55,19 @@ CREATE TABLE IF NOT EXISTS expedientes (
     activo          BOOLEAN         NOT NULL DEFAULT TRUE
 );
 
+-- =====================================================
+-- Contador por año para la numeración "NNN-YYYY"
+-- Cada nodo reserva bloques de números sobre esta fila
+-- =====================================================
+CREATE TABLE IF NOT EXISTS expediente_secuencias (
+
+    -- Año de la numeración (parte YYYY del N° de Expediente)
+    anio            INTEGER         PRIMARY KEY,
+
+    -- Último número ya reservado por algún nodo
+    ultimo_numero   BIGINT          NOT NULL
+);
+
 -- =====================================================
 -- ÍNDICES para optimizar consultas frecuentes
 -- =====================================================
@@ -60,12 +80,20 @@ CREATE INDEX IF NOT EXISTS idx_expedientes_activo
 CREATE INDEX IF NOT EXISTS idx_expedientes_fecha
     ON expedientes (fecha_registro);
 
+-- Consultas por caja y ocupación de estantes (igualdad y rango de fila)
+CREATE INDEX IF NOT EXISTS idx_expedientes_ubicacion
+    ON expedientes (estante, caja)
+    INCLUDE (folios, activo);
+
 -- =====================================================
 -- COMENTARIOS sobre la tabla
 -- =====================================================
 COMMENT ON TABLE expedientes IS 'Inventario Archivístico - Modelo plano para Archivo Central';
 COMMENT ON COLUMN expedientes.id_expediente IS 'Llave primaria natural: N° de Expediente (ej. 003-2022)';
 COMMENT ON COLUMN expedientes.activo IS 'Soft Delete: false = eliminado lógicamente';
+COMMENT ON COLUMN expedientes.estante IS 'Estante extraído de archivado_con (ej. A-01)';
+COMMENT ON COLUMN expedientes.caja IS 'Caja extraída de archivado_con (ej. 12)';
+COMMENT ON TABLE expediente_secuencias IS 'Contador por año para asignar el siguiente N° de Expediente';
 
 -- =====================================================
 -- DATOS DE PRUEBA (5 registros)
@@ -77,3 +105,9 @@ VALUES
     ('003-2025', '2025-03-10', 'Carta', 'CART-008-2025', 'Roberto Antonio Díaz Vargas', '65874123', 'Donación de documentos familiares al archivo histórico', 'Jefatura de Archivo', 28, 'Estante C-05, Caja 02', 'Incluye fotografías originales de 1950', TRUE),
     ('004-2025', '2025-04-05', 'Memorando', 'MEM-022-2025', 'Ana Lucía Mendoza Castillo', '71236548', 'Transferencia de expedientes del área de contabilidad', 'Unidad de Gestión Documental', 45, 'Estante D-02, Caja 15', 'Transferencia parcial - pendiente segunda remesa', TRUE),
     ('005-2025', '2025-05-18', 'Informe', 'INF-003-2025', 'Carlos Eduardo Salazar Huamán', '80145236', 'Informe de inventario de documentos clasificados', 'Comité de Evaluación Documental', 8, 'Estante A-04, Caja 09', 'Documento confidencial - acceso restringido', TRUE);
+
+-- Estante y caja de los datos de prueba (misma regla que UbicacionFisica.java)
+UPDATE expedientes
+SET estante = upper(substring(archivado_con FROM '(?i)estante\s+([A-Za-z0-9-]{1,20})(?![A-Za-z0-9-])')),
+    caja    = CAST(substring(archivado_con FROM '(?i)caja\s+([0-9]{1,9})(?![0-9])') AS INTEGER)
+WHERE archivado_con IS NOT NULL;
@@ -0,0 +1,121 @@
+package com.archivo.inventario.application.cache;
+
+import com.archivo.inventario.domain.model.Expediente;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheExpedientesTest {
+
+    private final CacheExpedientes cache = new CacheExpedientes(10, 60);
+
+    @Test
+    void devuelveLoGuardadoYNadaParaUnNDesconocido() {
+        guardar(cache, expediente("001-2024"));
+
+        assertThat(cache.obtener("001-2024")).map(Expediente::getIdExpediente).hasValue("001-2024");
+        assertThat(cache.obtener("002-2024")).isEmpty();
+    }
+
+    @Test
+    void invalidarDescartaLaEntrada() {
+        guardar(cache, expediente("001-2024"));
+
+        cache.invalidar("001-2024");
+
+        assertThat(cache.obtener("001-2024")).isEmpty();
+        assertThat(cache.tamanio()).isZero();
+    }
+
+    @Test
+    void unaEntradaVencidaNoSeDevuelve() throws InterruptedException {
+        CacheExpedientes sinTtl = new CacheExpedientes(10, 0);
+        guardar(sinTtl, expediente("001-2024"));
+        Thread.sleep(2);
+
+        assertThat(sinTtl.obtener("001-2024")).isEmpty();
+    }
+
+    @Test
+    void alSuperarLaCapacidadDesalojaLasMenosConsultadas() {
+        // e0 queda con 2 consultas, e1 con 3, ... e9 con 11
+        for (int i = 0; i < 10; i++) {
+            String id = "e" + i;
+            guardar(cache, expediente(id));
+            for (int j = 0; j <= i; j++) {
+                cache.obtener(id);
+            }
+        }
+
+        guardar(cache, expediente("nuevo"));
+
+        // 11 entradas con capacidad 10: se elimina el exceso más el 10 % (2),
+        // sin contar el recién guardado
+        assertThat(cache.tamanio()).isEqualTo(9);
+        assertThat(cache.obtener("nuevo")).isPresent();
+        assertThat(cache.obtener("e0")).isEmpty();
+        assertThat(cache.obtener("e1")).isEmpty();
+        assertThat(cache.obtener("e2")).isPresent();
+        assertThat(cache.obtener("e9")).isPresent();
+    }
+
+    @Test
+    void noGuardaLoLeidoSiSeInvalidoDuranteLaLectura() {
+        long generacion = cache.generacion("001-2024");
+
+        cache.invalidar("001-2024");
+        cache.guardar(expediente("001-2024"), generacion);
+
+        assertThat(cache.obtener("001-2024")).isEmpty();
+    }
+
+    @Test
+    void unaInvalidacionAnteriorALaLecturaNoImpideGuardar() {
+        cache.invalidar("001-2024");
+        long generacion = cache.generacion("001-2024");
+
+        cache.guardar(expediente("001-2024"), generacion);
+
+        assertThat(cache.obtener("001-2024")).isPresent();
+    }
+
+    @Test
+    void guardarDeNuevoConservaElContadorDeConsultas() {
+        guardar(cache, expediente("a"));
+        consultar("a", 5);
+        guardar(cache, expediente("b"));
+        consultar("b", 2);
+
+        guardar(cache, expediente("a"));
+
+        assertThat(cache.masConsultados(2)).containsExactly("a", "b");
+    }
+
+    @Test
+    void masConsultadosOrdenaYEnvejeceLosContadores() {
+        guardar(cache, expediente("a"));
+        consultar("a", 7);   // 8
+        guardar(cache, expediente("b"));
+        consultar("b", 2);   // 3
+
+        assertThat(cache.masConsultados(2)).containsExactly("a", "b");
+
+        // Tras envejecer: a = 4, b = 2. Tres consultas recientes ponen b delante
+        consultar("b", 3);
+        assertThat(cache.masConsultados(1)).containsExactly("b");
+    }
+
+    private void consultar(String id, int veces) {
+        for (int i = 0; i < veces; i++) {
+            cache.obtener(id);
+        }
+    }
+
+    private static void guardar(CacheExpedientes destino, Expediente expediente) {
+        destino.guardar(expediente, destino.generacion(expediente.getIdExpediente()));
+    }
+
+    private static Expediente expediente(String id) {
+        return Expediente.builder().idExpediente(id).activo(true).build();
+    }
+}
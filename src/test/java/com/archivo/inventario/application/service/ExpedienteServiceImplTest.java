@@ -0,0 +1,137 @@
+package com.archivo.inventario.application.service;
+
+import com.archivo.inventario.application.cache.CacheExpedientes;
+import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Interacción de ExpedienteServiceImpl con la caché de buscarPorId.
+ * La sincronización de transacciones se activa a mano para simular
+ * el commit o el rollback sin base de datos.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExpedienteServiceImplTest {
+
+    private static final String ID = "001-2024";
+
+    @Mock
+    private ExpedienteRepositoryPort repositoryPort;
+
+    private final CacheExpedientes cache = new CacheExpedientes(100, 60);
+
+    private ExpedienteServiceImpl service;
+
+    @BeforeEach
+    void crearServicio() {
+        service = new ExpedienteServiceImpl(repositoryPort, cache);
+    }
+
+    @AfterEach
+    void limpiarSincronizacion() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void buscarPorIdSirveLaSegundaLecturaDesdeLaCache() {
+        when(repositoryPort.findById(ID)).thenAnswer(inv -> Optional.of(expediente()));
+
+        service.buscarPorId(ID);
+        service.buscarPorId(ID);
+
+        verify(repositoryPort, times(1)).findById(ID);
+    }
+
+    @Test
+    void unaLecturaQueSeCruzaConUnCommitNoCacheaLaFilaAnterior() {
+        // La fila se lee antes del commit; la invalidación llega antes de guardar
+        when(repositoryPort.findById(ID)).thenAnswer(inv -> {
+            cache.invalidar(ID);
+            return Optional.of(expediente());
+        });
+
+        service.buscarPorId(ID);
+
+        assertThat(cache.obtener(ID)).isEmpty();
+    }
+
+    @Test
+    void actualizarInvalidaLaCacheRecienAlConfirmar() {
+        cachear();
+        when(repositoryPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.actualizar(ID, expediente());
+
+        assertThat(cache.obtener(ID)).isPresent();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.obtener(ID)).isEmpty();
+    }
+
+    @Test
+    void eliminarConRollbackConservaLaEntrada() {
+        cachear();
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.eliminar(ID);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(cache.obtener(ID)).isPresent();
+    }
+
+    @Test
+    void registrarInvalidaAlConfirmar() {
+        cache.guardar(expediente(), cache.generacion(ID));
+        when(repositoryPort.existsById(ID)).thenReturn(false);
+        when(repositoryPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.registrar(expediente());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.obtener(ID)).isEmpty();
+    }
+
+    @Test
+    void sinTransaccionInvalidaDeInmediato() {
+        cachear();
+
+        service.eliminar(ID);
+
+        assertThat(cache.obtener(ID)).isEmpty();
+    }
+
+    /** Deja el N° en la caché pasando por buscarPorId. */
+    private void cachear() {
+        when(repositoryPort.findById(ID)).thenAnswer(inv -> Optional.of(expediente()));
+        service.buscarPorId(ID);
+    }
+
+    private static Expediente expediente() {
+        return Expediente.builder()
+                .idExpediente(ID)
+                .tipoDocumento("Oficio")
+                .folios(3)
+                .archivadoCon("Estante A-01, Caja 12")
+                .activo(true)
+                .build();
+    }
+}
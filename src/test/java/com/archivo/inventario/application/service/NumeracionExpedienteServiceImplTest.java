@@ -0,0 +1,176 @@
+package com.archivo.inventario.application.service;
+
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import com.archivo.inventario.domain.port.SecuenciaExpedienteRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NumeracionExpedienteServiceImplTest {
+
+    private static final Instant FIN_2024 = Instant.parse("2024-12-31T23:59:59Z");
+    private static final Instant INICIO_2025 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final SecuenciaEnMemoria secuencia = new SecuenciaEnMemoria();
+    private final RelojAjustable reloj = new RelojAjustable(FIN_2024);
+    private final ExpedienteRepositoryPort expedientes = mock(ExpedienteRepositoryPort.class);
+
+    @Test
+    void reparteNumerosConsecutivosDesdeUnSoloBloque() {
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 50, reloj);
+
+        assertThat(List.of(service.siguienteNumero(), service.siguienteNumero(), service.siguienteNumero()))
+                .containsExactly("001-2024", "002-2024", "003-2024");
+        assertThat(secuencia.reservas).containsExactly(2024);
+    }
+
+    @Test
+    void reservaOtroBloqueAlAgotarElVigente() {
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 2, reloj);
+
+        List<String> numeros = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            numeros.add(service.siguienteNumero());
+        }
+
+        assertThat(numeros).containsExactly("001-2024", "002-2024", "003-2024", "004-2024", "005-2024");
+        assertThat(secuencia.reservas).containsExactly(2024, 2024, 2024);
+    }
+
+    @Test
+    void continuaDespuesDelMayorNumeroExistente() {
+        secuencia.ultimos.put(2024, 41L);
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 50, reloj);
+
+        assertThat(service.siguienteNumero()).isEqualTo("042-2024");
+    }
+
+    @Test
+    void saltaLosNEscritosAManoDentroDelBloque() {
+        when(expedientes.existsById("002-2024")).thenReturn(true);
+        when(expedientes.existsById("003-2024")).thenReturn(true);
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 50, reloj);
+
+        assertThat(List.of(service.siguienteNumero(), service.siguienteNumero()))
+                .containsExactly("001-2024", "004-2024");
+    }
+
+    @Test
+    void saltaUnNEscritoAManoPorEncimaDelContador() {
+        secuencia.ultimos.put(2024, 60L);
+        when(expedientes.existsById("061-2024")).thenReturn(true);
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 1, reloj);
+
+        assertThat(service.siguienteNumero()).isEqualTo("062-2024");
+        assertThat(secuencia.ultimos).containsEntry(2024, 62L);
+    }
+
+    @Test
+    void respetaLosBloquesReservadosPorOtroNodo() {
+        NumeracionExpedienteServiceImpl nodoA = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 10, reloj);
+        NumeracionExpedienteServiceImpl nodoB = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 10, reloj);
+
+        assertThat(nodoA.siguienteNumero()).isEqualTo("001-2024");
+        assertThat(nodoB.siguienteNumero()).isEqualTo("011-2024");
+        assertThat(nodoA.siguienteNumero()).isEqualTo("002-2024");
+    }
+
+    @Test
+    void alCambiarDeAnioAbreUnBloqueNuevo() {
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 50, reloj);
+        assertThat(service.siguienteNumero()).isEqualTo("001-2024");
+        assertThat(service.siguienteNumero()).isEqualTo("002-2024");
+
+        reloj.ajustar(INICIO_2025);
+
+        assertThat(service.siguienteNumero()).isEqualTo("001-2025");
+        assertThat(service.siguienteNumero()).isEqualTo("002-2025");
+        assertThat(secuencia.reservas).containsExactly(2024, 2025);
+    }
+
+    @Test
+    void noRepiteNumerosConHilosConcurrentes() throws Exception {
+        NumeracionExpedienteServiceImpl service = new NumeracionExpedienteServiceImpl(secuencia, expedientes, 7, reloj);
+        int hilos = 8;
+        int porHilo = 500;
+
+        Set<String> numeros = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                tareas.add(executor.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        numeros.add(service.siguienteNumero());
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(numeros).hasSize(hilos * porHilo);
+    }
+
+    /**
+     * Contador por año con la misma semántica que expediente_secuencias.
+     */
+    private static final class SecuenciaEnMemoria implements SecuenciaExpedienteRepositoryPort {
+
+        private final Map<Integer, Long> ultimos = new HashMap<>();
+        private final List<Integer> reservas = new ArrayList<>();
+
+        @Override
+        public synchronized long reservarBloque(int anio, int tamanio) {
+            reservas.add(anio);
+            return ultimos.merge(anio, (long) tamanio, Long::sum);
+        }
+    }
+
+    private static final class RelojAjustable extends Clock {
+
+        private volatile Instant ahora;
+
+        private RelojAjustable(Instant ahora) {
+            this.ahora = ahora;
+        }
+
+        private void ajustar(Instant ahora) {
+            this.ahora = ahora;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return ahora;
+        }
+    }
+}
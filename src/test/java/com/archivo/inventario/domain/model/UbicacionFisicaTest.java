@@ -0,0 +1,70 @@
+package com.archivo.inventario.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UbicacionFisicaTest {
+
+    @Test
+    void extraeEstanteYCaja() {
+        UbicacionFisica ubicacion = UbicacionFisica.desde("Estante A-01, Caja 12");
+
+        assertThat(ubicacion.getEstante()).isEqualTo("A-01");
+        assertThat(ubicacion.getCaja()).isEqualTo(12);
+    }
+
+    @Test
+    void ignoraMayusculasYNormalizaElEstante() {
+        UbicacionFisica ubicacion = UbicacionFisica.desde("archivado en ESTANTE b-3 / caja   07");
+
+        assertThat(ubicacion.getEstante()).isEqualTo("B-3");
+        assertThat(ubicacion.getCaja()).isEqualTo(7);
+    }
+
+    @Test
+    void reconoceCadaParteAunqueFalteLaOtra() {
+        assertThat(UbicacionFisica.desde("Estante C-05").getCaja()).isNull();
+        assertThat(UbicacionFisica.desde("Estante C-05").getEstante()).isEqualTo("C-05");
+        assertThat(UbicacionFisica.desde("Caja 9").getEstante()).isNull();
+        assertThat(UbicacionFisica.desde("Caja 9").getCaja()).isEqualTo(9);
+    }
+
+    @Test
+    void aceptaEstantesDeHasta20Caracteres() {
+        assertThat(UbicacionFisica.desde("Estante ABCDEFGHIJ-123456789").getEstante())
+                .isEqualTo("ABCDEFGHIJ-123456789");
+    }
+
+    @Test
+    void dejaEnNullUnEstanteDeMasDe20Caracteres() {
+        UbicacionFisica ubicacion = UbicacionFisica.desde("Estante ABCDEFGHIJ-1234567890, Caja 4");
+
+        assertThat(ubicacion.getEstante()).isNull();
+        assertThat(ubicacion.getCaja()).isEqualTo(4);
+    }
+
+    @Test
+    void dejaEnNullUnaCajaDeMasDe9Digitos() {
+        assertThat(UbicacionFisica.desde("Estante A-01, Caja 1234567890").getCaja()).isNull();
+    }
+
+    @Test
+    void normalizarEstanteCoincideConLoGuardado() {
+        assertThat(UbicacionFisica.normalizarEstante("b-3"))
+                .isEqualTo(UbicacionFisica.desde("Estante b-3").getEstante());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "Depósito central", "Estante, Caja"})
+    void sinUbicacionReconocibleDevuelveAmbasEnNull(String archivadoCon) {
+        UbicacionFisica ubicacion = UbicacionFisica.desde(archivadoCon);
+
+        assertThat(ubicacion.getEstante()).isNull();
+        assertThat(ubicacion.getCaja()).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package com.archivo.inventario.infrastructure.config;
+
+import com.archivo.inventario.domain.exception.ExpedienteNoEncontradoException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de un 404 de buscarPorId: crear y lanzar la excepción a cierta
+ * profundidad de pila, capturarla y armar la respuesta en el manejador.
+ *
+ * - antes: excepción con stack trace y cuerpo HashMap con
+ *   LocalDateTime.now().toString() (implementación anterior, reproducida aquí).
+ * - despues: ExpedienteNoEncontradoException sin traza y
+ *   GlobalExceptionHandler.handleNoEncontrado con ErrorRespuesta.
+ *
+ * "profundidad" simula los marcos de Tomcat, filtros y proxies que hay
+ * entre el servicio y el hilo del servidor (una petición real supera los 100).
+ *
+ * Ejecución (asignaciones por operación en gc.alloc.rate.norm):
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ *   java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" \
+ *       com.archivo.inventario.infrastructure.config.RespuestaNoEncontradoBenchmark
+ * (en Windows separar el classpath con ";")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RespuestaNoEncontradoBenchmark {
+
+    private static final String ID = "404-2024";
+
+    @Param({"10", "100"})
+    private int profundidad;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> antes() {
+        try {
+            lanzar(profundidad, true);
+            throw new IllegalStateException();
+        } catch (NoEncontradoConTraza ex) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("timestamp", LocalDateTime.now().toString());
+            response.put("status", HttpStatus.NOT_FOUND.value());
+            response.put("error", "No encontrado");
+            response.put("mensaje", ex.getMessage());
+
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(response);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorRespuesta> despues() {
+        try {
+            lanzar(profundidad, false);
+            throw new IllegalStateException();
+        } catch (ExpedienteNoEncontradoException ex) {
+            return handler.handleNoEncontrado(ex);
+        }
+    }
+
+    private static void lanzar(int profundidad, boolean conTraza) {
+        if (profundidad > 0) {
+            lanzar(profundidad - 1, conTraza);
+            return;
+        }
+        if (conTraza) {
+            throw new NoEncontradoConTraza(ID);
+        }
+        throw new ExpedienteNoEncontradoException(ID);
+    }
+
+    /** ExpedienteNoEncontradoException tal como era antes (con stack trace). */
+    private static final class NoEncontradoConTraza extends RuntimeException {
+
+        private NoEncontradoConTraza(String idExpediente) {
+            super("No se encontró el expediente con N° " + idExpediente);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RespuestaNoEncontradoBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
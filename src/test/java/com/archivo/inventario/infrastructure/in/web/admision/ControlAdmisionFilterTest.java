@@ -0,0 +1,59 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Qué peticiones controla el filtro y a qué pool van.
+ */
+class ControlAdmisionFilterTest {
+
+    private final ControlAdmisionFilter filtro = new ControlAdmisionFilter(
+            new ObjectMapper(), 50, 100, 10_000, Set.of(), 2, 500, 8, 100, 20, 1000);
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET,  /api/v1/expedientes",
+            "GET,  /api/v1/expedientes;x=1",
+            "GET,  /api/v1/expedientes/estantes/A-01/ocupacion",
+            "GET,  /api/v1/expedientes/estantes/A-01/cajas/12",
+            "GET,  /api/v1/expedientes/estantes;x=1/A-01/ocupacion"
+    })
+    void listadoYEstantesSonCostosos(String metodo, String uri) {
+        assertThat(filtro.esCostosa(new MockHttpServletRequest(metodo, uri))).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "POST,   /api/v1/expedientes",
+            "POST,   /api/v1/expedientes;x=1",
+            "POST,   /api/v1/expedientes/lote",
+            "POST,   /api/v1/expedientes/siguiente-numero",
+            "GET,    /api/v1/expedientes/001-2024",
+            "PUT,    /api/v1/expedientes/001-2024",
+            "DELETE, /api/v1/expedientes/001-2024"
+    })
+    void elRestoVaAlPoolLigero(String metodo, String uri) {
+        assertThat(filtro.esCostosa(new MockHttpServletRequest(metodo, uri))).isFalse();
+    }
+
+    @Test
+    void controlaLaApiAunqueLaRutaTraigaParametrosDeMatriz() {
+        assertThat(filtro.shouldNotFilter(new MockHttpServletRequest("GET", "/api/v1/expedientes;x=1"))).isFalse();
+        assertThat(filtro.shouldNotFilter(new MockHttpServletRequest("GET", "/api/v1/expedientes/001-2024"))).isFalse();
+    }
+
+    @Test
+    void noControlaOtrasRutasNiPreflight() {
+        assertThat(filtro.shouldNotFilter(new MockHttpServletRequest("GET", "/actuator/health"))).isTrue();
+        assertThat(filtro.shouldNotFilter(new MockHttpServletRequest("GET", "/api/v1/expedientesx"))).isTrue();
+        assertThat(filtro.shouldNotFilter(new MockHttpServletRequest("OPTIONS", "/api/v1/expedientes"))).isTrue();
+    }
+}
@@ -0,0 +1,97 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimitadorTasaTest {
+
+    private static final long INICIO = 1_000_000_000L;
+    private static final long INACTIVIDAD_MS = 60_000;
+
+    @Test
+    void admiteUnaRafagaHastaLaCapacidad() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 3, INACTIVIDAD_MS, 100);
+
+        assertThat(limitador.intentar("a", INICIO)).isZero();
+        assertThat(limitador.intentar("a", INICIO)).isZero();
+        assertThat(limitador.intentar("a", INICIO)).isZero();
+        assertThat(limitador.intentar("a", INICIO)).isPositive();
+    }
+
+    @Test
+    void indicaCuantoEsperarHastaElProximoToken() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, INACTIVIDAD_MS, 100);
+        limitador.intentar("a", INICIO);
+
+        // 10 tokens por segundo: el siguiente llega en 100 ms
+        assertThat(limitador.intentar("a", INICIO)).isBetween(100L, 101L);
+        assertThat(limitador.intentar("a", INICIO + ms(60))).isBetween(40L, 41L);
+    }
+
+    @Test
+    void recargaTokensConElTiempoSinSuperarLaCapacidad() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 2, INACTIVIDAD_MS, 100);
+        limitador.intentar("a", INICIO);
+        limitador.intentar("a", INICIO);
+
+        assertThat(limitador.intentar("a", INICIO + ms(100))).isZero();
+        assertThat(limitador.intentar("a", INICIO + ms(100))).isPositive();
+
+        // Tras 10 s inactivo solo acumula la capacidad (2), no 100 tokens
+        long despues = INICIO + ms(10_100);
+        assertThat(limitador.intentar("a", despues)).isZero();
+        assertThat(limitador.intentar("a", despues)).isZero();
+        assertThat(limitador.intentar("a", despues)).isPositive();
+    }
+
+    @Test
+    void cadaClienteTieneSuPropiaCubeta() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, INACTIVIDAD_MS, 100);
+
+        assertThat(limitador.intentar("a", INICIO)).isZero();
+        assertThat(limitador.intentar("a", INICIO)).isPositive();
+        assertThat(limitador.intentar("b", INICIO)).isZero();
+    }
+
+    @Test
+    void alLlenarseLosClientesNuevosCompartenLaCubetaDeDesborde() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, INACTIVIDAD_MS, 2);
+        limitador.intentar("a", INICIO);
+        limitador.intentar("b", INICIO);
+
+        assertThat(limitador.intentar("c", INICIO)).isZero();
+        assertThat(limitador.intentar("d", INICIO)).isPositive();
+        assertThat(limitador.intentar("e", INICIO)).isPositive();
+        assertThat(limitador.clientes()).isEqualTo(2);
+    }
+
+    @Test
+    void alLlenarsePurgaLosInactivosAntesDeUsarElDesborde() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, INACTIVIDAD_MS, 2);
+        limitador.intentar("a", INICIO);
+        limitador.intentar("b", INICIO);
+
+        long despues = INICIO + ms(INACTIVIDAD_MS + 1);
+        assertThat(limitador.intentar("c", despues)).isZero();
+        assertThat(limitador.intentar("d", despues)).isZero();
+        assertThat(limitador.clientes()).isEqualTo(2);
+    }
+
+    @Test
+    void purgarInactivasConservaLosClientesRecientes() {
+        LimitadorTasa limitador = new LimitadorTasa(10, 1, INACTIVIDAD_MS, 100);
+        limitador.intentar("a", INICIO);
+        limitador.intentar("b", INICIO + ms(INACTIVIDAD_MS));
+
+        limitador.purgarInactivas(INICIO + ms(INACTIVIDAD_MS + 1));
+
+        assertThat(limitador.clientes()).isEqualTo(1);
+    }
+
+    private static long ms(long milisegundos) {
+        return TimeUnit.MILLISECONDS.toNanos(milisegundos);
+    }
+}
@@ -0,0 +1,89 @@
+package com.archivo.inventario.infrastructure.in.web.admision;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoolConcurrenciaTest {
+
+    private static final long ESPERA_MAXIMA_MS = 50;
+    private static final long OBJETIVO_MS = 10;
+    private static final long INTERVALO_MS = 150;
+
+    private final PoolConcurrencia pool = new PoolConcurrencia(1, ESPERA_MAXIMA_MS, OBJETIVO_MS, INTERVALO_MS);
+
+    @Test
+    void admiteHastaLaCantidadDePermisos() throws InterruptedException {
+        assertThat(pool.adquirir()).isTrue();
+        assertThat(pool.adquirir()).isFalse();
+
+        pool.liberar();
+        assertThat(pool.adquirir()).isTrue();
+    }
+
+    @Test
+    void sinPermisoEsperaHastaLaEsperaMaxima() throws InterruptedException {
+        pool.adquirir();
+
+        long espera = cronometrar();
+
+        assertThat(espera).isGreaterThanOrEqualTo(ESPERA_MAXIMA_MS - 5);
+    }
+
+    @Test
+    void conColaPermanenteDescartaSinEsperarDuranteElIntervaloSiguiente() throws InterruptedException {
+        pool.adquirir();
+        // El intervalo en curso registró una espera de 0 (la adquisición anterior)
+        dejarVencerIntervalo();
+        cronometrar();
+
+        // Intervalo completo donde incluso la menor espera supera el objetivo
+        cronometrar();
+        dejarVencerIntervalo();
+        cronometrar();
+
+        assertThat(cronometrar()).isLessThan(ESPERA_MAXIMA_MS / 2);
+    }
+
+    @Test
+    void vuelveAEsperarCuandoLaColaSeVacia() throws InterruptedException {
+        pool.adquirir();
+        dejarVencerIntervalo();
+        cronometrar();
+        cronometrar();
+        dejarVencerIntervalo();
+        cronometrar();
+        assertThat(cronometrar()).isLessThan(ESPERA_MAXIMA_MS / 2);
+
+        // Una petición obtiene permiso sin esperar: el intervalo cierra sin cola
+        pool.liberar();
+        assertThat(pool.adquirir()).isTrue();
+        dejarVencerIntervalo();
+        pool.liberar();
+        assertThat(pool.adquirir()).isTrue();
+
+        assertThat(cronometrar()).isGreaterThanOrEqualTo(ESPERA_MAXIMA_MS - 5);
+    }
+
+    @Test
+    void sugiereReintentarTrasUnIntervaloComoMinimoUnSegundo() {
+        assertThat(pool.segundosReintento()).isEqualTo(1);
+        assertThat(new PoolConcurrencia(1, 100, 10, 3_000).segundosReintento()).isEqualTo(3);
+    }
+
+    /**
+     * Intenta adquirir un permiso que no está disponible y devuelve
+     * cuántos milisegundos tardó en ser rechazado.
+     */
+    private long cronometrar() throws InterruptedException {
+        long inicio = System.nanoTime();
+        assertThat(pool.adquirir()).isFalse();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+    }
+
+    private static void dejarVencerIntervalo() throws InterruptedException {
+        Thread.sleep(INTERVALO_MS + 10);
+    }
+}
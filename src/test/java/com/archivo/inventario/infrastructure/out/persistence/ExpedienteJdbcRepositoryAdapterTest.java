@@ -0,0 +1,17 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Contrato de ExpedienteRepositoryPort sobre el adaptador JdbcClient
+ * (perfil "jdbc"): sin Hibernate y con DataSourceTransactionManager.
+ */
+@JdbcTest(properties = "spring.flyway.enabled=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("jdbc")
+@Import(ExpedienteJdbcRepositoryAdapter.class)
+class ExpedienteJdbcRepositoryAdapterTest extends ExpedienteRepositoryPortContractTest {
+}
@@ -0,0 +1,17 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Contrato de ExpedienteRepositoryPort sobre el adaptador JPA (por defecto).
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExpedienteRepositoryAdapter.class)
+class ExpedienteRepositoryAdapterTest extends ExpedienteRepositoryPortContractTest {
+}
@@ -0,0 +1,157 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import com.archivo.inventario.domain.model.CampoExpediente;
+import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comparación repetible JPA vs JDBC sobre el mismo PostgreSQL y los mismos datos.
+ *
+ * No forma parte de "mvn test" (el nombre no termina en Test); se ejecuta con:
+ *   mvn test -Dtest=ExpedienteRepositoryAdaptersBenchmark
+ *
+ * Cada operación corre en su propia transacción, como en ExpedienteServiceImpl,
+ * para que el contexto de persistencia de JPA no sirva lecturas repetidas
+ * desde memoria. Las del adaptador JDBC usan DataSourceTransactionManager,
+ * como con el perfil "jdbc", así que no abren una Session de Hibernate.
+ * Los N° consultados salen de un Random con semilla fija.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExpedienteRepositoryAdapter.class)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpedienteRepositoryAdaptersBenchmark {
+
+    private static final int REGISTROS = 5_000;
+    private static final int RONDAS_CALENTAMIENTO = 3;
+    private static final int RONDAS_MEDIDAS = 5;
+    private static final int TAMANIO_LOTE = 100;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ExpedienteRepositoryAdapter jpaAdapter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExpedienteJdbcRepositoryAdapter jdbcAdapter;
+    private TransactionTemplate transaccionJpa;
+    private TransactionTemplate transaccionJdbc;
+    private List<String> ids;
+
+    @BeforeEach
+    void sembrarDatos() {
+        jdbcAdapter = new ExpedienteJdbcRepositoryAdapter(JdbcClient.create(dataSource));
+        transaccionJpa = new TransactionTemplate(transactionManager);
+        transaccionJdbc = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        ids = new ArrayList<>(REGISTROS);
+        for (int i = 1; i <= REGISTROS; i++) {
+            ids.add("%05d-2024".formatted(i));
+        }
+        transaccionJdbc.executeWithoutResult(estado -> ids.forEach(id ->
+                jdbcAdapter.save(ExpedienteRepositoryPortContractTest.expediente(id, "A-0" + (id.hashCode() & 7), 1))));
+    }
+
+    @Test
+    void compararAdaptadores() {
+        medir("findById", 2_000, (puerto, random) ->
+                assertThat(puerto.findById(idAleatorio(random))).isPresent());
+
+        medir("findAllById (lote de " + TAMANIO_LOTE + ")", 200, (puerto, random) ->
+                assertThat(puerto.findAllById(loteAleatorio(random))).hasSize(TAMANIO_LOTE));
+
+        Set<CampoExpediente> campos = EnumSet.of(CampoExpediente.ID_EXPEDIENTE,
+                CampoExpediente.FECHA_REGISTRO, CampoExpediente.NOMBRE_SOLICITANTE);
+        medir("findAll (3 campos)", 20, (puerto, random) ->
+                assertThat(puerto.findAll(campos)).hasSize(REGISTROS));
+
+        medir("save (actualización)", 1_000, (puerto, random) -> {
+            Expediente expediente = ExpedienteRepositoryPortContractTest.expediente(idAleatorio(random), "B-01", 2);
+            expediente.setFolios(1 + random.nextInt(50));
+            puerto.save(expediente);
+        });
+    }
+
+    /**
+     * Ejecuta la operación con ambos adaptadores, alternándolos en cada
+     * ronda, y reporta la mejor ronda medida en microsegundos por operación.
+     */
+    private void medir(String operacion, int iteraciones, Operacion cuerpo) {
+        double mejorJpa = Double.MAX_VALUE;
+        double mejorJdbc = Double.MAX_VALUE;
+
+        for (int ronda = 0; ronda < RONDAS_CALENTAMIENTO + RONDAS_MEDIDAS; ronda++) {
+            double jpa = ronda(jpaAdapter, transaccionJpa, iteraciones, ronda, cuerpo);
+            double jdbc = ronda(jdbcAdapter, transaccionJdbc, iteraciones, ronda, cuerpo);
+            if (ronda >= RONDAS_CALENTAMIENTO) {
+                mejorJpa = Math.min(mejorJpa, jpa);
+                mejorJdbc = Math.min(mejorJdbc, jdbc);
+            }
+        }
+
+        System.out.printf("%-32s JPA %10.1f µs/op   JDBC %10.1f µs/op   (JDBC/JPA %.2f)%n",
+                operacion, mejorJpa, mejorJdbc, mejorJdbc / mejorJpa);
+    }
+
+    private double ronda(ExpedienteRepositoryPort puerto, TransactionTemplate transaccion,
+            int iteraciones, int ronda, Operacion cuerpo) {
+        Random random = new Random(ronda);
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteraciones; i++) {
+            transaccion.executeWithoutResult(estado -> cuerpo.ejecutar(puerto, random));
+        }
+        return (System.nanoTime() - inicio) / 1_000.0 / iteraciones;
+    }
+
+    private String idAleatorio(Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private List<String> loteAleatorio(Random random) {
+        int desde = random.nextInt(ids.size() - TAMANIO_LOTE);
+        return ids.subList(desde, desde + TAMANIO_LOTE);
+    }
+
+    @FunctionalInterface
+    private interface Operacion {
+        void ejecutar(ExpedienteRepositoryPort puerto, Random random);
+    }
+}
@@ -0,0 +1,231 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import com.archivo.inventario.domain.model.CampoExpediente;
+import com.archivo.inventario.domain.model.Expediente;
+import com.archivo.inventario.domain.model.OcupacionCaja;
+import com.archivo.inventario.domain.port.ExpedienteRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato de ExpedienteRepositoryPort.
+ * Cada adaptador (JPA y JDBC) lo hereda y debe pasar exactamente las
+ * mismas pruebas contra un PostgreSQL real, con el esquema de Flyway.
+ * El slice de Spring lo declara cada subclase: el adaptador JDBC se prueba
+ * sin Hibernate, igual que con el perfil "jdbc".
+ */
+@Testcontainers
+abstract class ExpedienteRepositoryPortContractTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ExpedienteRepositoryPort repositoryPort;
+
+    // ==========================================
+    // ESCRITURA Y LECTURA POR N°
+    // ==========================================
+
+    @Test
+    void saveYFindByIdDevuelvenTodosLosCampos() {
+        repositoryPort.save(expediente("001-2024", "A-01", 12));
+
+        Expediente leido = repositoryPort.findById("001-2024").orElseThrow();
+
+        assertThat(leido.getIdExpediente()).isEqualTo("001-2024");
+        assertThat(leido.getFechaRegistro()).isEqualTo(LocalDate.of(2024, 3, 15));
+        assertThat(leido.getTipoDocumento()).isEqualTo("Oficio");
+        assertThat(leido.getNumDocumento()).isEqualTo("OF-001");
+        assertThat(leido.getNombreSolicitante()).isEqualTo("Juan Pérez");
+        assertThat(leido.getDniSolicitante()).isEqualTo("12345678");
+        assertThat(leido.getAsunto()).isEqualTo("Solicitud de copia");
+        assertThat(leido.getDirigidoA()).isEqualTo("Mesa de Partes");
+        assertThat(leido.getFolios()).isEqualTo(3);
+        assertThat(leido.getArchivadoCon()).isEqualTo("Estante A-01, Caja 12");
+        assertThat(leido.getEstante()).isEqualTo("A-01");
+        assertThat(leido.getCaja()).isEqualTo(12);
+        assertThat(leido.getObservaciones()).isEqualTo("Sin observaciones");
+        assertThat(leido.getActivo()).isTrue();
+    }
+
+    @Test
+    void findByIdDevuelveVacioSiNoExiste() {
+        assertThat(repositoryPort.findById("999-2024")).isEmpty();
+    }
+
+    @Test
+    void saveSobreUnNExistenteLoActualiza() {
+        repositoryPort.save(expediente("001-2024", "A-01", 12));
+
+        Expediente modificado = expediente("001-2024", "B-02", 3);
+        modificado.setFolios(10);
+        modificado.setActivo(false);
+        repositoryPort.save(modificado);
+
+        Expediente leido = repositoryPort.findById("001-2024").orElseThrow();
+        assertThat(leido.getFolios()).isEqualTo(10);
+        assertThat(leido.getEstante()).isEqualTo("B-02");
+        assertThat(leido.getActivo()).isFalse();
+        assertThat(repositoryPort.findAll()).hasSize(1);
+    }
+
+    @Test
+    void existsByIdDistingueExistentesDeInexistentes() {
+        repositoryPort.save(expediente("001-2024", "A-01", 12));
+
+        assertThat(repositoryPort.existsById("001-2024")).isTrue();
+        assertThat(repositoryPort.existsById("002-2024")).isFalse();
+    }
+
+    // ==========================================
+    // LISTADOS Y CONSULTA MÚLTIPLE
+    // ==========================================
+
+    @Test
+    void findAllDevuelveTodosLosRegistros() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+        repositoryPort.save(expediente("002-2024", "A-01", 2));
+
+        assertThat(repositoryPort.findAll())
+                .extracting(Expediente::getIdExpediente)
+                .containsExactlyInAnyOrder("001-2024", "002-2024");
+    }
+
+    @Test
+    void findAllByIdOmiteLosNInexistentes() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+        repositoryPort.save(expediente("002-2024", "A-01", 2));
+        repositoryPort.save(expediente("003-2024", "A-01", 3));
+
+        List<Expediente> encontrados = repositoryPort.findAllById(List.of("001-2024", "003-2024", "404-2024"));
+
+        assertThat(encontrados)
+                .extracting(Expediente::getIdExpediente)
+                .containsExactlyInAnyOrder("001-2024", "003-2024");
+        assertThat(encontrados).allSatisfy(e -> assertThat(e.getAsunto()).isNotNull());
+    }
+
+    @Test
+    void findAllByIdConListaVaciaDevuelveVacio() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+
+        assertThat(repositoryPort.findAllById(List.of())).isEmpty();
+        assertThat(repositoryPort.findAllById(List.of(), EnumSet.allOf(CampoExpediente.class))).isEmpty();
+    }
+
+    // ==========================================
+    // PROYECCIONES
+    // ==========================================
+
+    @Test
+    void findAllConCamposLeeSoloLosSolicitados() {
+        repositoryPort.save(expediente("001-2024", "A-01", 12));
+
+        Set<CampoExpediente> campos = EnumSet.of(CampoExpediente.ID_EXPEDIENTE,
+                CampoExpediente.FECHA_REGISTRO, CampoExpediente.FOLIOS);
+        List<Expediente> resultado = repositoryPort.findAll(campos);
+
+        assertThat(resultado).singleElement().satisfies(e -> {
+            assertThat(e.getIdExpediente()).isEqualTo("001-2024");
+            assertThat(e.getFechaRegistro()).isEqualTo(LocalDate.of(2024, 3, 15));
+            assertThat(e.getFolios()).isEqualTo(3);
+            assertThat(e.getAsunto()).isNull();
+            assertThat(e.getObservaciones()).isNull();
+            assertThat(e.getActivo()).isNull();
+        });
+    }
+
+    @Test
+    void findAllByIdConCamposFiltraYProyecta() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+        repositoryPort.save(expediente("002-2024", "A-01", 2));
+
+        Set<CampoExpediente> campos = EnumSet.of(CampoExpediente.ID_EXPEDIENTE,
+                CampoExpediente.CAJA, CampoExpediente.ACTIVO);
+        List<Expediente> resultado = repositoryPort.findAllById(List.of("002-2024"), campos);
+
+        assertThat(resultado).singleElement().satisfies(e -> {
+            assertThat(e.getIdExpediente()).isEqualTo("002-2024");
+            assertThat(e.getCaja()).isEqualTo(2);
+            assertThat(e.getActivo()).isTrue();
+            assertThat(e.getNombreSolicitante()).isNull();
+        });
+    }
+
+    // ==========================================
+    // UBICACIÓN FÍSICA
+    // ==========================================
+
+    @Test
+    void findByUbicacionDevuelveSoloLosActivosDeLaCaja() {
+        repositoryPort.save(expediente("001-2024", "A-01", 12));
+        repositoryPort.save(expediente("002-2024", "A-01", 13));
+        Expediente eliminado = expediente("003-2024", "A-01", 12);
+        eliminado.setActivo(false);
+        repositoryPort.save(eliminado);
+
+        assertThat(repositoryPort.findByUbicacion("A-01", 12))
+                .extracting(Expediente::getIdExpediente)
+                .containsExactly("001-2024");
+    }
+
+    @Test
+    void findOcupacionEstanteAgrupaPorCajaEIncluyeLaFila() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+        repositoryPort.save(expediente("002-2024", "A-01", 1));
+        repositoryPort.save(expediente("003-2024", "A-02", 5));
+        repositoryPort.save(expediente("004-2024", "AB-01", 1));
+
+        assertThat(repositoryPort.findOcupacionEstante("A-01"))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new OcupacionCaja("A-01", 1, 2, 6));
+
+        assertThat(repositoryPort.findOcupacionEstante("A"))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(
+                        new OcupacionCaja("A-01", 1, 2, 6),
+                        new OcupacionCaja("A-02", 5, 1, 3));
+    }
+
+    @Test
+    void findOcupacionEstanteNoInterpretaComodines() {
+        repositoryPort.save(expediente("001-2024", "A-01", 1));
+        repositoryPort.save(expediente("002-2024", "B-01", 1));
+
+        assertThat(repositoryPort.findOcupacionEstante("%")).isEmpty();
+        assertThat(repositoryPort.findOcupacionEstante("_")).isEmpty();
+        assertThat(repositoryPort.findOcupacionEstante("A-0_")).isEmpty();
+    }
+
+    static Expediente expediente(String id, String estante, int caja) {
+        return Expediente.builder()
+                .idExpediente(id)
+                .fechaRegistro(LocalDate.of(2024, 3, 15))
+                .tipoDocumento("Oficio")
+                .numDocumento("OF-001")
+                .nombreSolicitante("Juan Pérez")
+                .dniSolicitante("12345678")
+                .asunto("Solicitud de copia")
+                .dirigidoA("Mesa de Partes")
+                .folios(3)
+                .archivadoCon("Estante " + estante + ", Caja " + caja)
+                .estante(estante)
+                .caja(caja)
+                .observaciones("Sin observaciones")
+                .activo(true)
+                .build();
+    }
+}
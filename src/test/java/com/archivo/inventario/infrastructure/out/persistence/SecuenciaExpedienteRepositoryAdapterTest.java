@@ -0,0 +1,93 @@
+package com.archivo.inventario.infrastructure.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL del contador por año contra un PostgreSQL real (esquema de Flyway).
+ * Sin transacción de prueba: reservarBloque usa REQUIRES_NEW y debe ver
+ * los expedientes ya confirmados.
+ */
+@JdbcTest(properties = "spring.flyway.enabled=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SecuenciaExpedienteRepositoryAdapter.class)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecuenciaExpedienteRepositoryAdapterTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SecuenciaExpedienteRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void limpiarTablas() {
+        jdbcClient.sql("DELETE FROM expediente_secuencias").update();
+        jdbcClient.sql("DELETE FROM expedientes").update();
+    }
+
+    @Test
+    void laPrimeraReservaDelAnioParteDelMayorNExistente() {
+        insertarExpediente("007-2024");
+        insertarExpediente("120-2024");
+        insertarExpediente("500-2023");
+        insertarExpediente("S/N-2024");
+
+        assertThat(adapter.reservarBloque(2024, 10)).isEqualTo(130);
+        assertThat(ultimoNumero(2024)).isEqualTo(130);
+    }
+
+    @Test
+    void lasReservasSiguientesAvanzanElContador() {
+        assertThat(adapter.reservarBloque(2025, 50)).isEqualTo(50);
+        assertThat(adapter.reservarBloque(2025, 50)).isEqualTo(100);
+
+        // Un N° registrado después de inicializar no reinicia el contador
+        insertarExpediente("900-2025");
+        assertThat(adapter.reservarBloque(2025, 5)).isEqualTo(105);
+    }
+
+    @Test
+    void cadaAnioTieneSuPropioContador() {
+        insertarExpediente("030-2024");
+
+        assertThat(adapter.reservarBloque(2024, 10)).isEqualTo(40);
+        assertThat(adapter.reservarBloque(2025, 10)).isEqualTo(10);
+        assertThat(ultimoNumero(2024)).isEqualTo(40);
+    }
+
+    private void insertarExpediente(String id) {
+        jdbcClient.sql("INSERT INTO expedientes (id_expediente, fecha_registro, tipo_documento,"
+                        + " num_documento, nombre_solicitante, dni_solicitante, asunto, dirigido_a,"
+                        + " folios, archivado_con, activo)"
+                        + " VALUES (?, CURRENT_DATE, 'Oficio', 'OF-1', 'Juan Pérez', '12345678',"
+                        + " 'Asunto', 'Mesa de Partes', 1, 'Estante A-01, Caja 1', TRUE)")
+                .param(id)
+                .update();
+    }
+
+    private long ultimoNumero(int anio) {
+        return jdbcClient.sql("SELECT ultimo_numero FROM expediente_secuencias WHERE anio = ?")
+                .param(anio)
+                .query(Long.class)
+                .single();
+    }
+}
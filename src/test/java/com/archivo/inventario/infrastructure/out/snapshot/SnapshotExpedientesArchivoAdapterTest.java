@@ -0,0 +1,97 @@
+package com.archivo.inventario.infrastructure.out.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotExpedientesArchivoAdapterTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void guardaYCargaLosNEnElMismoOrden() {
+        SnapshotExpedientesArchivoAdapter adapter = adapter("calientes.bin");
+
+        adapter.guardar(List.of("003-2024", "001-2024", "002-2025"));
+
+        assertThat(adapter.cargar()).containsExactly("003-2024", "001-2024", "002-2025");
+    }
+
+    @Test
+    void guardarReemplazaLaInstantaneaAnterior() {
+        SnapshotExpedientesArchivoAdapter adapter = adapter("calientes.bin");
+        adapter.guardar(List.of("001-2024", "002-2024"));
+
+        // El archivo recién leído no debe impedir reemplazarlo (Windows)
+        adapter.cargar();
+        adapter.guardar(List.of("009-2024"));
+
+        assertThat(adapter.cargar()).containsExactly("009-2024");
+        assertThat(directorio.resolve("calientes.bin.tmp")).doesNotExist();
+    }
+
+    @Test
+    void creaElDirectorioSiNoExiste() {
+        SnapshotExpedientesArchivoAdapter adapter = adapter("sub/dir/calientes.bin");
+
+        adapter.guardar(List.of("001-2024"));
+
+        assertThat(adapter.cargar()).containsExactly("001-2024");
+    }
+
+    @Test
+    void sinArchivoDevuelveVacio() {
+        assertThat(adapter("no-existe.bin").cargar()).isEmpty();
+    }
+
+    @Test
+    void ignoraUnArchivoConOtroFormato() throws IOException {
+        Files.writeString(directorio.resolve("otro.bin"), "esto no es una instantánea");
+
+        assertThat(adapter("otro.bin").cargar()).isEmpty();
+    }
+
+    @Test
+    void noConfiaEnLaCantidadDeclaradaEnElArchivo() throws IOException {
+        escribir("inflado.bin", Integer.MAX_VALUE, "001-2024");
+
+        assertThat(adapter("inflado.bin").cargar()).containsExactly("001-2024");
+    }
+
+    @Test
+    void deUnArchivoTruncadoDevuelveLosNCompletos() throws IOException {
+        Path archivo = escribir("truncado.bin", 2, "001-2024", "002-2024");
+        byte[] contenido = Files.readAllBytes(archivo);
+        Files.write(archivo, Arrays.copyOf(contenido, contenido.length - 3));
+
+        assertThat(adapter("truncado.bin").cargar()).containsExactly("001-2024");
+    }
+
+    private SnapshotExpedientesArchivoAdapter adapter(String nombre) {
+        return new SnapshotExpedientesArchivoAdapter(directorio.resolve(nombre).toString());
+    }
+
+    /** Escribe una instantánea válida salvo por la cantidad declarada. */
+    private Path escribir(String nombre, int cantidadDeclarada, String... ids) throws IOException {
+        Path archivo = directorio.resolve(nombre);
+        try (DataOutputStream salida = new DataOutputStream(Files.newOutputStream(archivo))) {
+            salida.writeInt(0x45585053);
+            salida.writeInt(1);
+            salida.writeInt(cantidadDeclarada);
+            for (String id : ids) {
+                salida.writeByte(id.length());
+                salida.writeBytes(id);
+            }
+        }
+        return archivo;
+    }
+}